@@ -0,0 +1,63 @@
+package com.bloggifyutils;
+
+import java.util.Random;
+
+/**
+ * Builds synthetic blog content for the benchmarks. The same seed always gives the same text.
+ */
+final class BenchmarkCorpus {
+
+    private static final String[] WORDS = {
+        "java", "performance", "blog", "post", "reading", "time", "excerpt", "slug",
+        "the", "a", "of", "and", "developer", "framework", "café", "naïve",
+        "guide", "tips", "2024", "web"
+    };
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Returns HTML of roughly the requested number of characters, with paragraphs,
+     * inline tags, headings and entities.
+     */
+    static String htmlPost(int size) {
+        Random random = new Random(42);
+        StringBuilder html = new StringBuilder(size + 64);
+
+        while (html.length() < size) {
+            if (random.nextInt(10) == 0) {
+                html.append("<h2>").append(sentence(random, 4)).append("</h2>\n");
+            }
+            html.append("<p>");
+            int sentences = 2 + random.nextInt(4);
+            for (int i = 0; i < sentences; i++) {
+                if (random.nextInt(4) == 0) {
+                    html.append("<a href=\"https://example.com/").append(WORDS[random.nextInt(WORDS.length)])
+                            .append("\">").append(sentence(random, 3)).append("</a> ");
+                }
+                html.append(sentence(random, 8 + random.nextInt(12)));
+                html.append(random.nextInt(5) == 0 ? " &amp; " : ". ");
+            }
+            html.append("</p>\n");
+        }
+        return html.toString();
+    }
+
+    /**
+     * Returns a title-like phrase.
+     */
+    static String title(Random random) {
+        return sentence(random, 3 + random.nextInt(6));
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,141 @@
+package com.bloggifyutils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hot paths when many request threads share them: the static utilities,
+ * shared immutable objects and the thread-safe stateful components.
+ * Run at 1, 8, 64 and 256 threads by {@link ScalingGate}, or by hand with {@code -t}:
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ContentionBenchmark -t 64"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    private static final int TITLES = 1024;
+    private static final int TENANTS = 16;
+
+    private String[] titles;
+    private String[] slugs;
+    private String post;
+    private ContentAnalyzer analyzer;
+    private SlugCache cache;
+    private OffHeapSlugSet slugSet;
+    private TenantSlugStore tenants;
+    private String[] tenantIds;
+    private Path indexFile;
+    private MappedSlugIndex mappedIndex;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        titles = new String[TITLES];
+        slugs = new String[TITLES];
+        post = BenchmarkCorpus.htmlPost(4000);
+        analyzer = ContentAnalyzer.builder().build();
+        cache = new SlugCache(4 * TITLES);
+        slugSet = new OffHeapSlugSet(TITLES);
+        tenants = new TenantSlugStore();
+        tenantIds = new String[TENANTS];
+        for (int i = 0; i < TENANTS; i++) {
+            tenantIds[i] = "tenant-" + i;
+        }
+        indexFile = Files.createTempFile("contention", ".idx");
+        Files.delete(indexFile);
+        mappedIndex = MappedSlugIndex.open(indexFile);
+
+        for (int i = 0; i < TITLES; i++) {
+            titles[i] = BenchmarkCorpus.title(random);
+            slugs[i] = SlugGenerator.generateUniqueSlug(titles[i], slugSet);
+            mappedIndex.add(slugs[i]);
+            tenants.forTenant(tenantIds[i % TENANTS]).add(slugs[i]);
+            cache.toSlug(titles[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mappedIndex.close();
+        Files.deleteIfExists(indexFile);
+    }
+
+    /**
+     * Per-thread position in the inputs, so threads do not share a counter.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = new Random().nextInt(TITLES);
+
+        int next() {
+            next = (next + 1) & (TITLES - 1);
+            return next;
+        }
+    }
+
+    @Benchmark
+    public String generateSlug(Cursor cursor) {
+        return SlugGenerator.generateSlug(titles[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean isValidSlug(Cursor cursor) {
+        return SlugValidator.isValid(slugs[cursor.next()]);
+    }
+
+    @Benchmark
+    public int countWords() {
+        return ReadingTimeCalculator.countWords(post);
+    }
+
+    @Benchmark
+    public String generateExcerpt() {
+        return ExcerptGenerator.generateExcerpt(post);
+    }
+
+    @Benchmark
+    public ContentAnalysis analyze() {
+        return analyzer.analyze(post);
+    }
+
+    @Benchmark
+    public String slugCacheHit(Cursor cursor) {
+        return cache.toSlug(titles[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean offHeapSlugSetContains(Cursor cursor) {
+        return slugSet.contains(slugs[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean mappedSlugIndexContains(Cursor cursor) {
+        return mappedIndex.contains(slugs[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean tenantSlugLookup(Cursor cursor) {
+        int i = cursor.next();
+        return tenants.forTenant(tenantIds[i % TENANTS]).contains(slugs[i]);
+    }
+}
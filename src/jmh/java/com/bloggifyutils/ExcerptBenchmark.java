@@ -0,0 +1,65 @@
+package com.bloggifyutils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares meta descriptions cut by character count with those cut by rendered width.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=ExcerptBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExcerptBenchmark {
+
+    @Param({"2000", "100000"})
+    public int size;
+
+    private String html;
+    private String stripped;
+    private ExcerptPolicy byCharacters;
+    private ExcerptPolicy byWidth;
+
+    @Setup
+    public void setUp() {
+        html = BenchmarkCorpus.htmlPost(size);
+        stripped = ExcerptGenerator.stripHtmlTags(html);
+        byCharacters = ExcerptPolicy.builder().limit(155).suffix("").build();
+        byWidth = ExcerptPolicy.builder().unit(ExcerptPolicy.LengthUnit.PIXELS).limit(920).suffix("").build();
+    }
+
+    @Benchmark
+    public String metaDescription() {
+        return ExcerptGenerator.generateMetaDescription(html);
+    }
+
+    @Benchmark
+    public String metaDescriptionByWidth() {
+        return ExcerptGenerator.generateMetaDescriptionByWidth(html);
+    }
+
+    @Benchmark
+    public String cutByCharacters() {
+        return byCharacters.apply(stripped);
+    }
+
+    @Benchmark
+    public String cutByWidth() {
+        return byWidth.apply(stripped);
+    }
+}
@@ -0,0 +1,122 @@
+package com.bloggifyutils;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link ContentionBenchmark} at 1, 8, 64 and 256 threads and exits with status 1
+ * if a benchmark stops scaling.
+ *
+ * Lock-free paths must reach {@code efficiency} times the single-thread throughput
+ * multiplied by the threads that can actually run, i.e. min(threads, cores).
+ * Paths that lock by design must keep {@code retention} times the single-thread
+ * throughput, so a lock convoy cannot go unnoticed.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.main=com.bloggifyutils.ScalingGate
+ *
+ * Arguments of the form {@code efficiency=0.5} or {@code retention=0.5} change the limits;
+ * any other argument is a benchmark pattern, ContentionBenchmark by default:
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.main=com.bloggifyutils.ScalingGate -Djmh.args="efficiency=0.6 retention=0.4"
+ */
+public final class ScalingGate {
+
+    static final int[] THREADS = {1, 8, 64, 256};
+
+    /** Benchmarks of components that lock on every call; none at present. */
+    private static final Set<String> LOCKING = Collections.emptySet();
+
+    private ScalingGate() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        double efficiency = 0.5;
+        double retention = 0.5;
+        List<String> includes = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("efficiency=")) {
+                efficiency = Double.parseDouble(arg.substring("efficiency=".length()));
+            } else if (arg.startsWith("retention=")) {
+                retention = Double.parseDouble(arg.substring("retention=".length()));
+            } else if (!arg.isEmpty() && !arg.equals(".*Benchmark.*")) {
+                // The jmh profile passes ".*Benchmark.*" when no pattern is given
+                includes.add(arg);
+            }
+        }
+        if (includes.isEmpty()) {
+            includes.add(ContentionBenchmark.class.getSimpleName());
+        }
+
+        // Throughput per benchmark, one entry per thread count
+        Map<String, double[]> scores = new LinkedHashMap<>();
+        for (int t = 0; t < THREADS.length; t++) {
+            OptionsBuilder builder = new OptionsBuilder();
+            for (String include : includes) {
+                builder.include(include);
+            }
+            Options options = builder
+                    .threads(THREADS[t])
+                    .mode(Mode.Throughput)
+                    .timeUnit(TimeUnit.MILLISECONDS)
+                    .shouldFailOnError(true)
+                    .build();
+
+            for (RunResult result : new Runner(options).run()) {
+                scores.computeIfAbsent(name(result), k -> new double[THREADS.length])[t] =
+                        result.getPrimaryResult().getScore();
+            }
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        Set<String> failures = new TreeSet<>();
+        System.out.printf("%nScaling on %d cores (efficiency >= %.2f, retention >= %.2f)%n",
+                cores, efficiency, retention);
+
+        for (Map.Entry<String, double[]> entry : scores.entrySet()) {
+            String name = entry.getKey();
+            double[] score = entry.getValue();
+            String benchmark = name.split(" ")[0];
+            boolean locking = LOCKING.contains(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+
+            StringBuilder line = new StringBuilder(String.format("%-60s", name));
+            for (int t = 1; t < THREADS.length; t++) {
+                double expected = locking
+                        ? retention * score[0]
+                        : efficiency * score[0] * Math.min(THREADS[t], cores);
+                boolean ok = score[t] >= expected;
+                line.append(String.format("  %3dT %5.2fx%s", THREADS[t], score[t] / score[0], ok ? "" : "!"));
+                if (!ok) {
+                    failures.add(name);
+                }
+            }
+            System.out.println(line);
+        }
+
+        if (!failures.isEmpty()) {
+            System.out.println("Scaling regression in: " + failures);
+            System.exit(1);
+        }
+        System.out.println("All benchmarks scale.");
+    }
+
+    private static String name(RunResult result) {
+        StringBuilder name = new StringBuilder(result.getParams().getBenchmark());
+        for (String key : result.getParams().getParamsKeys()) {
+            name.append(' ').append(key).append('=').append(result.getParams().getParam(key));
+        }
+        return name.toString();
+    }
+}
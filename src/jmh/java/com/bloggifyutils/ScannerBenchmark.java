@@ -0,0 +1,94 @@
+package com.bloggifyutils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the table-driven scanner behind countWords and stripHtmlTags
+ * with the regex implementation it replaced, and measures what top-term
+ * extraction adds to a counting scan.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=ScannerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScannerBenchmark {
+
+    @Param({"2000", "100000", "1000000"})
+    public int size;
+
+    private String html;
+    private ContentAnalyzer topTermsAnalyzer;
+
+    @Setup
+    public void setUp() {
+        html = BenchmarkCorpus.htmlPost(size);
+        topTermsAnalyzer = ContentAnalyzer.builder()
+                .topTerms(10)
+                .stopWords(ContentAnalyzer.ENGLISH_STOP_WORDS)
+                .build();
+    }
+
+    @Benchmark
+    public int countWordsRegex() {
+        String clean = html.replaceAll("<[^>]*>", " ");
+        return clean.trim().split("\\s+").length;
+    }
+
+    @Benchmark
+    public int countWordsScanner() {
+        HtmlScanner scanner = new HtmlScanner();
+        scanner.scan(html);
+        return scanner.words;
+    }
+
+    @Benchmark
+    public String stripHtmlTagsRegex() {
+        String cleaned = html.replaceAll("<[^>]*>", " ")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'");
+        return cleaned.replaceAll("\\s+", " ").trim();
+    }
+
+    @Benchmark
+    public String stripHtmlTagsScanner() {
+        return HtmlScanner.strip(html, true);
+    }
+
+    @Benchmark
+    public Object topTermsHashMap() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : HtmlScanner.strip(html, true).toLowerCase().split("[^\\p{L}\\p{N}']+")) {
+            if (!word.isEmpty() && !ContentAnalyzer.ENGLISH_STOP_WORDS.contains(word)) {
+                counts.merge(word, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Object topTermsAnalyzer() {
+        return topTermsAnalyzer.analyze(html).getTopTerms();
+    }
+}
@@ -0,0 +1,53 @@
+package com.bloggifyutils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first call into the library in a fresh JVM: class loading, static
+ * initialization and interpreted execution, which dominate short-lived processes.
+ * Every fork runs each benchmark exactly once, without warm-up.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=StartupBenchmark
+ *
+ * To compare with an AppCDS archive from {@link StartupTraining} ({@code mvn -Pcds package}),
+ * pass the archive to the forks and put the jar first on the class path, as the archive requires:
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.classpath.prefix=target/bloggify-utils-1.0.0.jar:
+ *     -Djmh.args="StartupBenchmark -jvmArgsAppend -XX:SharedArchiveFile=target/bloggify-utils-1.0.0.jsa"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    @Benchmark
+    public String firstSlug() {
+        return SlugGenerator.generateSlug("10 Amazing Tips for Web Development in 2024!");
+    }
+
+    @Benchmark
+    public String firstAccentedSlug() {
+        return SlugGenerator.generateSlug("Café au Lait & Breakfast");
+    }
+
+    @Benchmark
+    public String firstExcerpt() {
+        return ExcerptGenerator.generateExcerpt("<p>Web development has evolved significantly "
+                + "over the years &amp; keeps changing.</p>", 40);
+    }
+
+    @Benchmark
+    public String firstReadingTime() {
+        return ReadingTimeCalculator.getReadingTimeText("<p>Web development has evolved significantly.</p>");
+    }
+}
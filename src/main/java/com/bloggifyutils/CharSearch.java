@@ -0,0 +1,33 @@
+package com.bloggifyutils;
+
+/**
+ * Bounded character search used by the tokenizer.
+ * Never looks past the end of the range, so repeated searches within short ranges
+ * such as lines stay linear in the document length. A range that ends with the text,
+ * such as a whole document, is searched with {@code String.indexOf(int, int)}, which
+ * HotSpot intrinsifies. The multi-release jar replaces this class on Java 21 with a
+ * version that uses {@code String.indexOf(int, int, int)} for every range.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class CharSearch {
+
+    private CharSearch() {
+    }
+
+    /**
+     * Returns the index of the first {@code c} in {@code [from, to)}, or -1 if there is none.
+     */
+    static int indexOf(String text, char c, int from, int to) {
+        if (to == text.length()) {
+            return text.indexOf(c, from);
+        }
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
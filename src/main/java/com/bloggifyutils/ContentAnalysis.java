@@ -0,0 +1,190 @@
+package com.bloggifyutils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a single {@link ContentAnalyzer} pass over a blog post:
+ * word count, reading time, table of contents, content fingerprint and top terms.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class ContentAnalysis {
+
+    private final int wordCount;
+    private final int readingTimeMinutes;
+    private final List<Heading> headings;
+    private final ContentFingerprint fingerprint;
+    private final List<Term> topTerms;
+
+    ContentAnalysis(int wordCount, int readingTimeMinutes, List<Heading> headings,
+                    ContentFingerprint fingerprint, List<Term> topTerms) {
+        this.wordCount = wordCount;
+        this.readingTimeMinutes = readingTimeMinutes;
+        this.headings = Collections.unmodifiableList(headings);
+        this.fingerprint = fingerprint;
+        this.topTerms = Collections.unmodifiableList(topTerms);
+    }
+
+    /**
+     * Returns the number of words, counted like {@link ReadingTimeCalculator#countWords}.
+     *
+     * @return the word count
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Returns the reading time at 200 words per minute,
+     * like {@link ReadingTimeCalculator#calculateReadingTime(String)}.
+     *
+     * @return the reading time in minutes
+     */
+    public int getReadingTimeMinutes() {
+        return readingTimeMinutes;
+    }
+
+    /**
+     * Returns the headings in document order, each with a unique anchor.
+     *
+     * @return the headings, unmodifiable
+     */
+    public List<Heading> getHeadings() {
+        return headings;
+    }
+
+    /**
+     * Returns the fingerprint of the visible text, like {@link ContentFingerprint#of}.
+     *
+     * @return the fingerprint
+     */
+    public ContentFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the most frequent terms, most frequent first, or an empty list
+     * if the analyzer was not asked for terms.
+     *
+     * @return the top terms, unmodifiable
+     */
+    public List<Term> getTopTerms() {
+        return topTerms;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d words, %d min read, %d headings",
+                wordCount, readingTimeMinutes, headings.size());
+    }
+
+    /**
+     * A heading of the table of contents.
+     */
+    public static class Heading {
+        private final int level;
+        private final String text;
+        private final String anchor;
+
+        /**
+         * Creates a heading.
+         *
+         * @param level the heading level, e.g. 2 for {@code <h2>}
+         * @param text the visible heading text
+         * @param anchor the anchor slug
+         */
+        public Heading(int level, String text, String anchor) {
+            this.level = level;
+            this.text = text;
+            this.anchor = anchor;
+        }
+
+        /**
+         * Returns the heading level, e.g. 2 for {@code <h2>}.
+         *
+         * @return the heading level, 1 to 6
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        /**
+         * Returns the visible heading text.
+         *
+         * @return the heading text
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Returns the anchor slug, unique within the document.
+         *
+         * @return the anchor slug
+         */
+        public String getAnchor() {
+            return anchor;
+        }
+
+        @Override
+        public String toString() {
+            return "h" + level + " " + text + " #" + anchor;
+        }
+    }
+
+    /**
+     * A term with its frequency in the document.
+     */
+    public static class Term {
+        private final String term;
+        private final int count;
+        private final double density;
+
+        /**
+         * Creates a term.
+         *
+         * @param term the term in lowercase
+         * @param count how often the term occurs
+         * @param density occurrences per word of the document
+         */
+        public Term(String term, int count, double density) {
+            this.term = term;
+            this.count = count;
+            this.density = density;
+        }
+
+        /**
+         * Returns the term in lowercase.
+         *
+         * @return the term
+         */
+        public String getTerm() {
+            return term;
+        }
+
+        /**
+         * Returns how often the term occurs.
+         *
+         * @return the number of occurrences
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the keyword density: occurrences per word of the document, from 0 to 1.
+         *
+         * @return the keyword density
+         */
+        public double getDensity() {
+            return density;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s x%d (%.1f%%)", term, count, density * 100);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.bloggifyutils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Analyzes a blog post in a single pass: counts words, extracts the table of contents,
+ * fingerprints the visible text and, if asked, finds the most frequent terms.
+ * Headings are found by the same tag tokenizer that {@link ExcerptGenerator#stripHtmlTags}
+ * and {@link ReadingTimeCalculator#countWords} use, and each one gets a unique anchor slug.
+ *
+ * Analyzers are immutable and thread-safe.
+ *
+ * Example:
+ * <pre>
+ * ContentAnalysis analysis = ContentAnalyzer.builder().build().analyze(html);
+ * for (ContentAnalysis.Heading heading : analysis.getHeadings()) {
+ *     System.out.println(heading.getAnchor() + " " + heading.getText());
+ * }
+ * </pre>
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class ContentAnalyzer {
+
+    private static final int WORDS_PER_MINUTE = 200;
+    private static final String EMPTY_ANCHOR = "section";
+
+    /** Common English words that say little about a post's topic, for {@link Builder#stopWords}. */
+    public static final Set<String> ENGLISH_STOP_WORDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "a", "about", "after", "all", "also", "an", "and", "any", "are", "as", "at", "be", "been",
+            "but", "by", "can", "could", "did", "do", "does", "for", "from", "had", "has", "have", "he",
+            "her", "his", "how", "i", "if", "in", "into", "is", "it", "its", "just", "more", "most",
+            "my", "no", "not", "of", "on", "one", "or", "our", "out", "so", "some", "than", "that",
+            "the", "their", "them", "then", "there", "these", "they", "this", "to", "up", "was", "we",
+            "were", "what", "when", "which", "who", "will", "with", "would", "you", "your")));
+
+    private final int minHeadingLevel;
+    private final int maxHeadingLevel;
+    private final int topTerms;
+    private final TermCounter.StopWords stopWords;
+
+    private ContentAnalyzer(Builder builder) {
+        this.minHeadingLevel = builder.minHeadingLevel;
+        this.maxHeadingLevel = builder.maxHeadingLevel;
+        this.topTerms = builder.topTerms;
+        this.stopWords = new TermCounter.StopWords(builder.stopWords);
+    }
+
+    /**
+     * Creates a builder that extracts {@code <h2>} and {@code <h3>} headings.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Analyzes the content.
+     *
+     * @param content the blog post content
+     * @return word count, reading time and headings
+     */
+    public ContentAnalysis analyze(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return new ContentAnalysis(0, 0, new ArrayList<>(), ContentFingerprint.of(content), new ArrayList<>());
+        }
+
+        Pass pass = new Pass(content);
+        pass.scan(content);
+        int minutes = ReadingTimeCalculator.toMinutes(pass.words, WORDS_PER_MINUTE);
+        List<ContentAnalysis.Term> terms = pass.terms != null
+                ? pass.terms.top(topTerms, pass.words) : new ArrayList<>();
+        return new ContentAnalysis(pass.words, minutes, pass.headings, pass.hasher.finish(), terms);
+    }
+
+    /**
+     * Returns the level of a heading tag: positive for an opening tag, negative for
+     * a closing tag and 0 for any other tag.
+     */
+    static int headingLevel(String text, int start, int end) {
+        int i = start + 1;
+        boolean closing = i < end && text.charAt(i) == '/';
+        if (closing) {
+            i++;
+        }
+        if (i + 2 >= end || (text.charAt(i) != 'h' && text.charAt(i) != 'H')) {
+            return 0;
+        }
+
+        char digit = text.charAt(i + 1);
+        if (digit < '1' || digit > '6') {
+            return 0;
+        }
+
+        // The name must end right after the digit, e.g. not <header>
+        char after = text.charAt(i + 2);
+        if (after != '>' && after != '/' && !HtmlScanner.isWhitespace(after)) {
+            return 0;
+        }
+
+        int level = digit - '0';
+        return closing ? -level : level;
+    }
+
+    /**
+     * One scan over a document, collecting headings as their tags go by,
+     * hashing the words and counting terms.
+     */
+    private final class Pass extends HtmlScanner {
+        final List<ContentAnalysis.Heading> headings = new ArrayList<>();
+        final TextHasher hasher = new TextHasher();
+        final TermCounter terms;
+        private final Set<String> anchors = new HashSet<>();
+        private final Map<String, Integer> nextSuffix = new HashMap<>();
+        private int openLevel;
+        private int textStart;
+
+        Pass(String content) {
+            terms = topTerms > 0 ? new TermCounter(content, stopWords) : null;
+        }
+
+        @Override
+        void onTag(String text, int start, int end) {
+            int level = headingLevel(text, start, end);
+            if (level >= minHeadingLevel && level <= maxHeadingLevel) {
+                openLevel = level;
+                textStart = end;
+            } else if (level < 0 && -level == openLevel) {
+                addHeading(HtmlScanner.strip(text, textStart, start, true));
+                openLevel = 0;
+            }
+        }
+
+        @Override
+        void onWord(String text, int start, int end) {
+            hasher.appendWord(text, start, end);
+            if (terms != null) {
+                terms.addTerms(start, end);
+            }
+        }
+
+        private void addHeading(String headingText) {
+            if (headingText.isEmpty()) {
+                return;
+            }
+
+            String base = SlugGenerator.generateSlug(headingText);
+            if (base.isEmpty()) {
+                base = EMPTY_ANCHOR;
+            }
+
+            // Per-document collision counter: intro, intro-1, intro-2, ...
+            String anchor = base;
+            if (!anchors.add(anchor)) {
+                int counter = nextSuffix.getOrDefault(base, 1);
+                do {
+                    anchor = base + "-" + counter++;
+                } while (!anchors.add(anchor));
+                nextSuffix.put(base, counter);
+            }
+
+            headings.add(new ContentAnalysis.Heading(openLevel, headingText, anchor));
+        }
+    }
+
+    /**
+     * Builder for {@link ContentAnalyzer}. Not thread-safe; the built analyzer is.
+     */
+    public static final class Builder {
+        private int minHeadingLevel = 2;
+        private int maxHeadingLevel = 3;
+        private int topTerms;
+        private Collection<String> stopWords = Collections.emptySet();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets which heading levels go into the table of contents.
+         *
+         * @param min lowest level, e.g. 2 for {@code <h2>}
+         * @param max highest level, e.g. 3 for {@code <h3>}
+         * @return this builder
+         */
+        public Builder headingLevels(int min, int max) {
+            this.minHeadingLevel = min;
+            this.maxHeadingLevel = max;
+            return this;
+        }
+
+        /**
+         * Sets how many of the most frequent terms to return. 0, the default, skips term counting.
+         *
+         * @param n number of terms
+         * @return this builder
+         */
+        public Builder topTerms(int n) {
+            this.topTerms = n;
+            return this;
+        }
+
+        /**
+         * Sets terms to leave out of the top terms, compared case-insensitively,
+         * e.g. {@link #ENGLISH_STOP_WORDS}.
+         *
+         * @param stopWords the stop words
+         * @return this builder
+         */
+        public Builder stopWords(Collection<String> stopWords) {
+            this.stopWords = stopWords != null ? stopWords : Collections.<String>emptySet();
+            return this;
+        }
+
+        /**
+         * Validates the settings and creates the analyzer.
+         *
+         * @return the analyzer
+         */
+        public ContentAnalyzer build() {
+            if (minHeadingLevel < 1 || maxHeadingLevel > 6 || minHeadingLevel > maxHeadingLevel) {
+                throw new IllegalArgumentException("Heading levels must be between 1 and 6, min <= max");
+            }
+            if (topTerms < 0) {
+                throw new IllegalArgumentException("Top terms must not be negative");
+            }
+            return new ContentAnalyzer(this);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.bloggifyutils;
+
+/**
+ * A 128-bit fingerprint of the visible text of a blog post, for change detection.
+ * The text is normalized the way {@link ExcerptGenerator#stripHtmlTags} normalizes it:
+ * tags removed, common entities decoded and whitespace collapsed. Posts whose markup
+ * changed but whose visible text did not keep the same fingerprint.
+ *
+ * The hash is MurmurHash3 x64 128-bit. It is fast but not cryptographic, so it detects
+ * changes but must not be used to guard against tampering.
+ *
+ * Example:
+ * <pre>
+ * ContentAnalysis analysis = analyzer.analyze(html);
+ * if (!analysis.getFingerprint().toHexString().equals(storedFingerprint)) {
+ *     // recompute excerpt and reading time
+ * }
+ * </pre>
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class ContentFingerprint {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long high;
+    private final long low;
+
+    ContentFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Fingerprints the content. {@link ContentAnalyzer#analyze} computes the same
+     * fingerprint together with its other metrics.
+     *
+     * @param content the blog post content, HTML or plain text
+     * @return the fingerprint of its visible text
+     */
+    public static ContentFingerprint of(String content) {
+        TextHasher hasher = new TextHasher();
+        if (content != null) {
+            new HtmlScanner() {
+                @Override
+                void onWord(String text, int start, int end) {
+                    hasher.appendWord(text, start, end);
+                }
+            }.scan(content);
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Fingerprints text that is already normalized, e.g. the output of
+     * {@link ExcerptGenerator#stripHtmlTags}. It is hashed as is.
+     *
+     * @param text the normalized text
+     * @return the fingerprint of the text
+     */
+    public static ContentFingerprint ofText(CharSequence text) {
+        TextHasher hasher = new TextHasher();
+        if (text != null) {
+            hasher.append(text, 0, text.length());
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Parses a fingerprint written by {@link #toHexString}.
+     *
+     * @param hex 32 hexadecimal digits
+     * @return the fingerprint
+     */
+    public static ContentFingerprint fromHexString(String hex) {
+        if (hex == null || hex.length() != 32) {
+            throw new IllegalArgumentException("Fingerprint must be 32 hexadecimal digits");
+        }
+        try {
+            return new ContentFingerprint(Long.parseUnsignedLong(hex.substring(0, 16), 16),
+                    Long.parseUnsignedLong(hex.substring(16), 16));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Fingerprint must be 32 hexadecimal digits", e);
+        }
+    }
+
+    /**
+     * Returns the upper 64 bits.
+     *
+     * @return the upper 64 bits
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns the lower 64 bits.
+     *
+     * @return the lower 64 bits
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Returns a 64-bit fingerprint, for stores with a single long column.
+     *
+     * @return the 64-bit fingerprint
+     */
+    public long asLong() {
+        return high;
+    }
+
+    /**
+     * Returns the fingerprint as 32 lowercase hexadecimal digits.
+     *
+     * @return the hexadecimal fingerprint
+     */
+    public String toHexString() {
+        char[] out = new char[32];
+        for (int i = 0; i < 16; i++) {
+            out[i] = HEX[(int) (high >>> (60 - 4 * i)) & 0xF];
+            out[16 + i] = HEX[(int) (low >>> (60 - 4 * i)) & 0xF];
+        }
+        return new String(out);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContentFingerprint)) {
+            return false;
+        }
+        ContentFingerprint other = (ContentFingerprint) o;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (high ^ (high >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+}
@@ -0,0 +1,255 @@
+package com.bloggifyutils;
+
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * A compiled layout for dated slugs, such as "2024-10-22-my-blog-post" or "2024/10/my-blog-post".
+ * The layout is parsed once; formatting writes the zero-padded date digits and the slug
+ * straight into a presized buffer.
+ *
+ * Layouts are made of the fields {@code yyyy}, {@code mm}, {@code dd} and {@code slug};
+ * any other character is copied as is. The {@code slug} field is required.
+ * A run of letters is only read as fields if it consists of fields alone, so "yyyymmdd" is
+ * three fields but "comments" is literal text. Text in single quotes is always literal,
+ * e.g. "'slug'/slug"; two single quotes stand for one.
+ *
+ * Example:
+ * <pre>
+ * DatedSlugFormat archive = DatedSlugFormat.compile("yyyy/mm/slug");
+ * String path = archive.format("My Post", LocalDate.of(2024, 10, 22)); // "2024/10/my-post"
+ * </pre>
+ *
+ * Formats are immutable and thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class DatedSlugFormat {
+
+    /** The layout of {@link SlugGenerator#generateDatedSlug}: "2024-10-22-my-blog-post". */
+    public static final DatedSlugFormat ISO = compile("yyyy-mm-dd-slug");
+
+    // Fields in the compiled layout; literal characters are stored as themselves (>= 0)
+    private static final int YEAR = -1;
+    private static final int MONTH = -2;
+    private static final int DAY = -3;
+    private static final int SLUG = -4;
+
+    private final String pattern;
+    private final int[] layout;
+    private final int fixedLength;
+
+    private DatedSlugFormat(String pattern, int[] layout, int fixedLength) {
+        this.pattern = pattern;
+        this.layout = layout;
+        this.fixedLength = fixedLength;
+    }
+
+    /**
+     * Compiles a layout.
+     *
+     * @param pattern the layout, e.g. "yyyy-mm-dd-slug" or "yyyy/mm/slug"
+     * @return the compiled format
+     */
+    public static DatedSlugFormat compile(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Pattern must not be null");
+        }
+
+        int[] layout = new int[pattern.length()];
+        int size = 0;
+        int fixedLength = 0;
+        boolean hasSlug = false;
+        int i = 0;
+
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                // Quoted literal; '' is a quote
+                int end = i + 1;
+                while (true) {
+                    if (end >= pattern.length()) {
+                        throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+                    }
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                            layout[size++] = '\'';
+                            fixedLength++;
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    layout[size++] = pattern.charAt(end++);
+                    fixedLength++;
+                }
+                if (end == i + 1) {
+                    layout[size++] = '\'';
+                    fixedLength++;
+                }
+                i = end + 1;
+            } else if (Character.isLetter(c)) {
+                int end = i + 1;
+                while (end < pattern.length() && Character.isLetter(pattern.charAt(end))) {
+                    end++;
+                }
+                if (isFields(pattern, i, end)) {
+                    while (i < end) {
+                        int field = fieldAt(pattern, i);
+                        layout[size++] = field;
+                        fixedLength += fieldWidth(field);
+                        hasSlug |= field == SLUG;
+                        i += fieldLength(field);
+                    }
+                } else {
+                    while (i < end) {
+                        layout[size++] = pattern.charAt(i++);
+                        fixedLength++;
+                    }
+                }
+            } else {
+                layout[size++] = c;
+                fixedLength++;
+                i++;
+            }
+        }
+
+        if (!hasSlug) {
+            throw new IllegalArgumentException("Pattern must contain slug: " + pattern);
+        }
+
+        int[] compact = new int[size];
+        System.arraycopy(layout, 0, compact, 0, size);
+        return new DatedSlugFormat(pattern, compact, fixedLength);
+    }
+
+    /**
+     * Returns true if {@code pattern[from, to)} consists of fields alone.
+     */
+    private static boolean isFields(String pattern, int from, int to) {
+        int i = from;
+        while (i < to) {
+            int field = fieldAt(pattern, i);
+            if (field == 0 || i + fieldLength(field) > to) {
+                return false;
+            }
+            i += fieldLength(field);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the field starting at {@code i}, or 0 if there is none.
+     */
+    private static int fieldAt(String pattern, int i) {
+        if (pattern.startsWith("yyyy", i)) {
+            return YEAR;
+        } else if (pattern.startsWith("mm", i)) {
+            return MONTH;
+        } else if (pattern.startsWith("dd", i)) {
+            return DAY;
+        } else if (pattern.startsWith("slug", i)) {
+            return SLUG;
+        }
+        return 0;
+    }
+
+    private static int fieldLength(int field) {
+        return field == MONTH || field == DAY ? 2 : 4;
+    }
+
+    /** Returns the number of characters a field writes; the slug's length varies. */
+    private static int fieldWidth(int field) {
+        return field == SLUG ? 0 : fieldLength(field);
+    }
+
+    /**
+     * Formats a title with a date.
+     *
+     * @param title the blog post title
+     * @param date a date with year, month and day, e.g. a {@link java.time.LocalDate}
+     * @return the dated slug
+     */
+    public String format(String title, TemporalAccessor date) {
+        if (date == null || !date.isSupported(ChronoField.YEAR)
+                || !date.isSupported(ChronoField.MONTH_OF_YEAR) || !date.isSupported(ChronoField.DAY_OF_MONTH)) {
+            throw new IllegalArgumentException("Date must have a year, month and day");
+        }
+        return format(title, date.get(ChronoField.YEAR),
+                date.get(ChronoField.MONTH_OF_YEAR), date.get(ChronoField.DAY_OF_MONTH));
+    }
+
+    /**
+     * Formats a title with a date.
+     *
+     * @param title the blog post title
+     * @param year the year (0-9999)
+     * @param month the month (1-12)
+     * @param day the day of the month
+     * @return the dated slug
+     */
+    public String format(String title, int year, int month, int day) {
+        checkDate(year, month, day);
+        String slug = SlugGenerator.generateSlug(title);
+
+        char[] out = new char[fixedLength + slug.length()];
+        int pos = 0;
+        for (int field : layout) {
+            switch (field) {
+                case YEAR:
+                    pos = writeDigits(out, pos, year, 4);
+                    break;
+                case MONTH:
+                    pos = writeDigits(out, pos, month, 2);
+                    break;
+                case DAY:
+                    pos = writeDigits(out, pos, day, 2);
+                    break;
+                case SLUG:
+                    slug.getChars(0, slug.length(), out, pos);
+                    pos += slug.length();
+                    break;
+                default:
+                    out[pos++] = (char) field;
+            }
+        }
+        return new String(out);
+    }
+
+    /**
+     * Returns the layout this format was compiled from.
+     *
+     * @return the layout
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private static void checkDate(int year, int month, int day) {
+        if (year < 0 || year > 9999) {
+            throw new IllegalArgumentException("Year must be between 0 and 9999");
+        }
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            throw new IllegalArgumentException("Invalid day of month: " + year + "-" + month + "-" + day);
+        }
+    }
+
+    private static int writeDigits(char[] out, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -4,6 +4,8 @@ package com.bloggifyutils;
  * Generates excerpts and summaries from blog post content.
  * Provides intelligent text truncation while preserving readability.
  *
+ * All methods are stateless and thread-safe.
+ *
  * @author BloggifyUtils Team
  * @version 1.0.0
  */
@@ -12,6 +14,26 @@ public class ExcerptGenerator {
     private static final int DEFAULT_EXCERPT_LENGTH = 150;
     private static final String DEFAULT_SUFFIX = "...";
 
+    /**
+     * Policies of the fixed-width descriptions, built on first use so that callers of the
+     * character-count methods do not load the width tables.
+     */
+    private static final class WidthPolicies {
+        // Search result snippets: Arial at 14px, cut at about 920px on desktop
+        static final ExcerptPolicy META_DESCRIPTION = byWidth(920, 14);
+        // Link cards: two lines of a 500px-wide card at 15px
+        static final ExcerptPolicy TWITTER_DESCRIPTION = byWidth(1000, 15);
+
+        private static ExcerptPolicy byWidth(int maxWidth, double fontSize) {
+            return ExcerptPolicy.builder()
+                    .unit(ExcerptPolicy.LengthUnit.PIXELS)
+                    .limit(maxWidth)
+                    .fontSize(fontSize)
+                    .suffix("")
+                    .build();
+        }
+    }
+
     /**
      * Generates an excerpt with default length (150 characters).
      *
@@ -43,6 +65,33 @@ public class ExcerptGenerator {
      * @return excerpt with custom suffix
      */
     public static String generateExcerpt(String content, int maxLength, String suffix) {
+        return generateExcerpt(content, maxLength, suffix, InputFormat.HTML);
+    }
+
+    /**
+     * Generates an excerpt with default length (150 characters) from content in the given format.
+     *
+     * @param content the blog post content
+     * @param format the markup the content is written in
+     * @return excerpt with ellipsis
+     */
+    public static String generateExcerpt(String content, InputFormat format) {
+        return generateExcerpt(content, DEFAULT_EXCERPT_LENGTH, DEFAULT_SUFFIX, format);
+    }
+
+    /**
+     * Generates an excerpt with custom length and suffix from content in the given format.
+     *
+     * @param content the blog post content
+     * @param maxLength maximum length of excerpt in characters
+     * @param suffix the suffix to append
+     * @param format the markup the content is written in
+     * @return excerpt with custom suffix
+     */
+    public static String generateExcerpt(String content, int maxLength, String suffix, InputFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("Input format must not be null");
+        }
         if (content == null || content.trim().isEmpty()) {
             return "";
         }
@@ -51,11 +100,8 @@ public class ExcerptGenerator {
             throw new IllegalArgumentException("Max length must be greater than 0");
         }
 
-        // Remove HTML tags
-        String cleanContent = stripHtmlTags(content);
-
-        // Remove extra whitespace
-        cleanContent = cleanContent.trim().replaceAll("\\s+", " ");
+        // Remove markup and extra whitespace
+        String cleanContent = toPlainText(content, format, true);
 
         // If content is shorter than max length, return as is
         if (cleanContent.length() <= maxLength) {
@@ -102,12 +148,9 @@ public class ExcerptGenerator {
             throw new IllegalArgumentException("Word count must be greater than 0");
         }
 
-        // Remove HTML tags
+        // Remove HTML tags and extra whitespace
         String cleanContent = stripHtmlTags(content);
 
-        // Remove extra whitespace
-        cleanContent = cleanContent.trim().replaceAll("\\s+", " ");
-
         // Split into words
         String[] words = cleanContent.split("\\s+");
 
@@ -152,6 +195,28 @@ public class ExcerptGenerator {
         return stripHtmlTags(content).trim();
     }
 
+    /**
+     * Generates an excerpt from the first paragraph of content in the given format.
+     * For Markdown, headings and code blocks before the first paragraph are skipped.
+     *
+     * @param content the blog post content
+     * @param format the markup the content is written in
+     * @return the first paragraph as excerpt
+     */
+    public static String generateExcerptFromFirstParagraph(String content, InputFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("Input format must not be null");
+        }
+        if (format == InputFormat.HTML) {
+            return generateExcerptFromFirstParagraph(content);
+        }
+        if (content == null || content.trim().isEmpty()) {
+            return "";
+        }
+
+        return MarkdownScanner.firstParagraph(content);
+    }
+
     /**
      * Generates an excerpt up to the first sentence or specified length.
      *
@@ -207,25 +272,38 @@ public class ExcerptGenerator {
      * @return clean text without HTML
      */
     public static String stripHtmlTags(String content) {
+        return stripHtmlTags(content, true);
+    }
+
+    /**
+     * Strips HTML tags from content, optionally keeping the original whitespace.
+     *
+     * @param content the content with HTML tags
+     * @param collapseWhitespace true to collapse whitespace runs into single spaces
+     * @return clean text without HTML
+     */
+    static String stripHtmlTags(String content, boolean collapseWhitespace) {
         if (content == null) {
             return null;
         }
 
-        // Remove HTML tags
-        String cleaned = content.replaceAll("<[^>]*>", " ");
-
-        // Decode common HTML entities
-        cleaned = cleaned.replace("&nbsp;", " ")
-                        .replace("&amp;", "&")
-                        .replace("&lt;", "<")
-                        .replace("&gt;", ">")
-                        .replace("&quot;", "\"")
-                        .replace("&#39;", "'");
-
-        // Remove extra whitespace
-        cleaned = cleaned.replaceAll("\\s+", " ");
+        // Remove tags, decode common entities and collapse whitespace in a single pass
+        return HtmlScanner.strip(content, collapseWhitespace);
+    }
 
-        return cleaned.trim();
+    /**
+     * Returns the visible text of content in the given format.
+     *
+     * @param content the blog post content
+     * @param format the markup the content is written in
+     * @param collapseWhitespace true to collapse whitespace runs into single spaces
+     * @return clean text without markup
+     */
+    static String toPlainText(String content, InputFormat format, boolean collapseWhitespace) {
+        if (format == InputFormat.MARKDOWN) {
+            return content != null ? MarkdownScanner.strip(content, collapseWhitespace) : null;
+        }
+        return stripHtmlTags(content, collapseWhitespace);
     }
 
     /**
@@ -239,6 +317,51 @@ public class ExcerptGenerator {
         return generateExcerpt(content, 155, "");
     }
 
+    /**
+     * Generates a meta description that fits the rendered width of a search result
+     * snippet (about 920 pixels of 14px Arial), rather than a fixed character count.
+     * Narrow text gets more characters and wide text, such as CJK, fewer.
+     *
+     * @param content the blog post content
+     * @return SEO-friendly meta description
+     */
+    public static String generateMetaDescriptionByWidth(String content) {
+        return WidthPolicies.META_DESCRIPTION.apply(content);
+    }
+
+    /**
+     * Generates an excerpt that fits a rendered width, cut at a word boundary.
+     * Widths are looked up per character from Arial metrics; no fonts are loaded.
+     * The suffix counts toward the width, and {@code maxWidth} must be wider than it.
+     *
+     * This is a convenience that builds and validates an {@link ExcerptPolicy} on every
+     * call. On a hot path, build the policy once with {@link ExcerptPolicy.LengthUnit#PIXELS}
+     * and reuse it.
+     *
+     * @param content the blog post content
+     * @param maxWidth maximum width in pixels
+     * @param fontSize font size in pixels
+     * @param suffix the suffix to append
+     * @return excerpt with custom suffix
+     */
+    public static String generateExcerptByWidth(String content, int maxWidth, double fontSize, String suffix) {
+        if (content == null || content.trim().isEmpty()) {
+            return "";
+        }
+
+        if (maxWidth <= 0) {
+            throw new IllegalArgumentException("Max width must be greater than 0");
+        }
+
+        return ExcerptPolicy.builder()
+                .unit(ExcerptPolicy.LengthUnit.PIXELS)
+                .limit(maxWidth)
+                .fontSize(fontSize)
+                .suffix(suffix)
+                .build()
+                .apply(content);
+    }
+
     /**
      * Generates a Twitter card description (max 200 characters).
      *
@@ -248,4 +371,15 @@ public class ExcerptGenerator {
     public static String generateTwitterDescription(String content) {
         return generateExcerpt(content, 200, "");
     }
+
+    /**
+     * Generates a Twitter card description that fits two lines of a card (about
+     * 1000 pixels of 15px text), rather than a fixed character count.
+     *
+     * @param content the blog post content
+     * @return Twitter-optimized description
+     */
+    public static String generateTwitterDescriptionByWidth(String content) {
+        return WidthPolicies.TWITTER_DESCRIPTION.apply(content);
+    }
 }
@@ -0,0 +1,425 @@
+package com.bloggifyutils;
+
+import java.util.Arrays;
+
+/**
+ * A reusable excerpt rule: how to measure length, where to cut and what to append.
+ * Build it once and apply it to any number of posts. Policies are immutable and thread-safe.
+ *
+ * Example:
+ * <pre>
+ * ExcerptPolicy card = ExcerptPolicy.builder().limit(120).suffix(" [Read more]").build();
+ * String excerpt = card.apply(content);
+ * </pre>
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class ExcerptPolicy {
+
+    /**
+     * How the limit is measured.
+     */
+    public enum LengthUnit {
+        /** Characters of the stripped text, including spaces. */
+        CHARACTERS,
+        /** Words of the stripped text; the excerpt always ends after a whole word. */
+        WORDS,
+        /**
+         * Rendered width in pixels at the policy's font size, measured with Arial glyph widths.
+         * The suffix counts toward the width, so the whole excerpt fits the limit; the limit
+         * must be wider than the suffix.
+         */
+        PIXELS
+    }
+
+    /**
+     * Where a character- or pixel-limited excerpt is cut.
+     */
+    public enum Boundary {
+        /** Cut at the last space before the limit, like {@link ExcerptGenerator#generateExcerpt}. */
+        WORD,
+        /** Cut exactly at the limit, even inside a word. */
+        EXACT
+    }
+
+    /**
+     * How whitespace in the stripped text is treated.
+     */
+    public enum Whitespace {
+        /** Collapse all whitespace runs into single spaces. */
+        COLLAPSE,
+        /** Keep the original whitespace, including line breaks. */
+        PRESERVE
+    }
+
+    private final LengthUnit unit;
+    private final int limit;
+    private final String suffix;
+    private final Boundary boundary;
+    private final Whitespace whitespace;
+    private final InputFormat inputFormat;
+    private final double fontSize;
+
+    private ExcerptPolicy(Builder builder) {
+        this.unit = builder.unit;
+        this.limit = builder.limit;
+        this.suffix = builder.suffix != null ? builder.suffix : "";
+        this.boundary = builder.boundary;
+        this.whitespace = builder.whitespace;
+        this.inputFormat = builder.inputFormat;
+        this.fontSize = builder.fontSize;
+    }
+
+    /**
+     * Creates a builder with the same defaults as {@link ExcerptGenerator#generateExcerpt(String)}:
+     * 150 characters, cut at a word boundary, "..." suffix, collapsed whitespace and HTML input.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Generates an excerpt of the content according to this policy.
+     *
+     * @param content the blog post content
+     * @return the excerpt, or an empty string for empty content
+     */
+    public String apply(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return "";
+        }
+        return applyToStripped(prepare(content, inputFormat, whitespace));
+    }
+
+    /**
+     * Applies several policies to the same content, stripping the markup only once
+     * for each input format and whitespace mode in use.
+     *
+     * @param content the blog post content
+     * @param policies the policies to apply
+     * @return the excerpts, in the same order as the policies
+     */
+    public static String[] applyAll(String content, ExcerptPolicy... policies) {
+        String[] excerpts = new String[policies.length];
+        if (content == null || content.trim().isEmpty()) {
+            Arrays.fill(excerpts, "");
+            return excerpts;
+        }
+
+        // Stripped text per input format and whitespace mode
+        String[][] prepared = new String[InputFormat.values().length][Whitespace.values().length];
+        for (int i = 0; i < policies.length; i++) {
+            ExcerptPolicy policy = policies[i];
+            String[] byWhitespace = prepared[policy.inputFormat.ordinal()];
+            String text = byWhitespace[policy.whitespace.ordinal()];
+            if (text == null) {
+                text = prepare(content, policy.inputFormat, policy.whitespace);
+                byWhitespace[policy.whitespace.ordinal()] = text;
+            }
+            excerpts[i] = policy.applyToStripped(text);
+        }
+        return excerpts;
+    }
+
+    /**
+     * Returns how the limit is measured.
+     *
+     * @return the length unit
+     */
+    public LengthUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the maximum length of an excerpt, in the policy's unit.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the text appended to a shortened excerpt.
+     *
+     * @return the suffix, empty if none
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * Returns where a character- or pixel-limited excerpt is cut.
+     *
+     * @return the cut boundary
+     */
+    public Boundary getBoundary() {
+        return boundary;
+    }
+
+    /**
+     * Returns how whitespace in the stripped text is treated.
+     *
+     * @return the whitespace mode
+     */
+    public Whitespace getWhitespace() {
+        return whitespace;
+    }
+
+    /**
+     * Returns the markup the content is written in.
+     *
+     * @return the input format
+     */
+    public InputFormat getInputFormat() {
+        return inputFormat;
+    }
+
+    /**
+     * Returns the font size in pixels that a {@link LengthUnit#PIXELS} limit is measured at.
+     *
+     * @return the font size in pixels
+     */
+    public double getFontSize() {
+        return fontSize;
+    }
+
+    private static String prepare(String content, InputFormat inputFormat, Whitespace whitespace) {
+        return ExcerptGenerator.toPlainText(content, inputFormat, whitespace == Whitespace.COLLAPSE);
+    }
+
+    /**
+     * Cuts already stripped and trimmed text.
+     */
+    private String applyToStripped(String text) {
+        int end;
+        if (unit == LengthUnit.WORDS) {
+            end = endOfWords(text);
+        } else if (unit == LengthUnit.PIXELS) {
+            end = endOfWidth(text);
+        } else {
+            end = endOfCharacters(text);
+        }
+        if (end < 0) {
+            return text;
+        }
+
+        // Drop whitespace left before the cut, like String.trim()
+        while (end > 0 && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        StringBuilder excerpt = new StringBuilder(end + suffix.length());
+        excerpt.append(text, 0, end).append(suffix);
+        return excerpt.toString();
+    }
+
+    /**
+     * Returns where to cut a character-limited excerpt, or -1 if the text fits.
+     */
+    private int endOfCharacters(String text) {
+        if (text.length() <= limit) {
+            return -1;
+        }
+        if (boundary == Boundary.EXACT) {
+            return limit;
+        }
+
+        for (int i = limit - 1; i > 0; i--) {
+            if (isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Returns where to cut a width-limited excerpt so that it fits with its suffix,
+     * or -1 if the whole text fits. Only the characters up to the limit are measured.
+     */
+    private int endOfWidth(String text) {
+        long budget = GlyphWidths.toUnits(limit, fontSize);
+        long suffixWidth = GlyphWidths.width(suffix, 0, suffix.length());
+
+        int end = GlyphWidths.fit(text, 0, budget - suffixWidth);
+        if (end == text.length()) {
+            return -1;
+        }
+        // Without a suffix, the rest may still fit in the room the suffix would take
+        long rest = budget - GlyphWidths.width(text, 0, end);
+        if (GlyphWidths.fit(text, end, rest) == text.length()) {
+            return -1;
+        }
+        if (boundary == Boundary.EXACT) {
+            return end;
+        }
+
+        for (int i = end; i > 0; i--) {
+            if (isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Returns the end of the last allowed word, or -1 if the text has no more words than the limit.
+     */
+    private int endOfWords(String text) {
+        int words = 0;
+        int length = text.length();
+        int i = 0;
+
+        while (i < length) {
+            while (i < length && isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            if (words == limit) {
+                return lastEnd(text, i);
+            }
+            while (i < length && !isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            words++;
+        }
+        return -1;
+    }
+
+    /**
+     * Steps back from the start of a word over the whitespace in front of it.
+     */
+    private static int lastEnd(String text, int wordStart) {
+        int end = wordStart;
+        while (end > 0 && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f' || c == '\u000B';
+    }
+
+    /**
+     * Builder for {@link ExcerptPolicy}. Not thread-safe; the built policy is.
+     */
+    public static final class Builder {
+        private LengthUnit unit = LengthUnit.CHARACTERS;
+        private int limit = 150;
+        private String suffix = "...";
+        private Boundary boundary = Boundary.WORD;
+        private Whitespace whitespace = Whitespace.COLLAPSE;
+        private InputFormat inputFormat = InputFormat.HTML;
+        private double fontSize = 14;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how the limit is measured. Defaults to {@link LengthUnit#CHARACTERS}.
+         *
+         * @param unit the length unit
+         * @return this builder
+         */
+        public Builder unit(LengthUnit unit) {
+            this.unit = unit;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of an excerpt, in the policy's unit. Defaults to 150.
+         *
+         * @param limit the limit, greater than 0
+         * @return this builder
+         */
+        public Builder limit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Sets the text appended to a shortened excerpt. Defaults to "...".
+         *
+         * @param suffix the suffix; null for none
+         * @return this builder
+         */
+        public Builder suffix(String suffix) {
+            this.suffix = suffix;
+            return this;
+        }
+
+        /**
+         * Sets where a character- or pixel-limited excerpt is cut. Defaults to {@link Boundary#WORD}.
+         *
+         * @param boundary the cut boundary
+         * @return this builder
+         */
+        public Builder boundary(Boundary boundary) {
+            this.boundary = boundary;
+            return this;
+        }
+
+        /**
+         * Sets how whitespace in the stripped text is treated. Defaults to {@link Whitespace#COLLAPSE}.
+         *
+         * @param whitespace the whitespace mode
+         * @return this builder
+         */
+        public Builder whitespace(Whitespace whitespace) {
+            this.whitespace = whitespace;
+            return this;
+        }
+
+        /**
+         * Sets the markup the content is written in. Defaults to {@link InputFormat#HTML}.
+         *
+         * @param inputFormat the input format
+         * @return this builder
+         */
+        public Builder inputFormat(InputFormat inputFormat) {
+            this.inputFormat = inputFormat;
+            return this;
+        }
+
+        /**
+         * Sets the font size in pixels for {@link LengthUnit#PIXELS}. Defaults to 14,
+         * the size of search result snippets.
+         *
+         * @param fontSize the font size in pixels, greater than 0
+         * @return this builder
+         */
+        public Builder fontSize(double fontSize) {
+            this.fontSize = fontSize;
+            return this;
+        }
+
+        /**
+         * Validates the settings and creates the policy.
+         *
+         * @return the compiled policy
+         */
+        public ExcerptPolicy build() {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Limit must be greater than 0");
+            }
+            if (!(fontSize > 0)) {
+                throw new IllegalArgumentException("Font size must be greater than 0");
+            }
+            if (unit == null || boundary == null || whitespace == null || inputFormat == null) {
+                throw new IllegalArgumentException("Unit, boundary, whitespace and input format must not be null");
+            }
+            // Otherwise every cut excerpt would be the suffix alone
+            if (unit == LengthUnit.PIXELS && suffix != null
+                    && GlyphWidths.width(suffix, 0, suffix.length()) >= GlyphWidths.toUnits(limit, fontSize)) {
+                throw new IllegalArgumentException("Limit must be wider than the suffix");
+            }
+            return new ExcerptPolicy(this);
+        }
+    }
+}
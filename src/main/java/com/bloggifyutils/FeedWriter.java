@@ -0,0 +1,152 @@
+package com.bloggifyutils;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+
+/**
+ * Streams an RSS 2.0 feed for any number of posts with constant memory.
+ * Each item's slug, excerpt and reading time come from {@link PostMetadata#of}, derived
+ * in parallel batches while the XML is written in input order.
+ *
+ * Example:
+ * <pre>
+ * FeedWriter writer = FeedWriter.builder("My Blog", "https://blog.example.com/").build();
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE)) {
+ *     writer.write(posts.iterator(), channel);
+ * }
+ * </pre>
+ *
+ * Writers are immutable and thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class FeedWriter {
+
+    private final String title;
+    private final String link;
+    private final String description;
+    private final boolean gzip;
+    private final int batchSize;
+
+    private FeedWriter(Builder builder) {
+        this.title = builder.title;
+        this.link = builder.link;
+        this.description = builder.description;
+        this.gzip = builder.gzip;
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * Creates a builder for the feed of a site.
+     *
+     * @param title the channel title
+     * @param link URL the post slugs are appended to, e.g. "https://blog.example.com/"
+     * @return a new builder
+     */
+    public static Builder builder(String title, String link) {
+        return new Builder(title, link);
+    }
+
+    /**
+     * Writes the feed. The channel is left open.
+     *
+     * @param posts the posts, read once, typically newest first
+     * @param channel where to write the feed
+     * @throws IOException if writing fails
+     */
+    public void write(Iterator<Post> posts, WritableByteChannel channel) throws IOException {
+        try (XmlOutput out = new XmlOutput(channel, gzip, false)) {
+            out.raw("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rss version=\"2.0\">\n<channel>\n")
+                    .raw("  <title>").text(title).raw("</title>\n")
+                    .raw("  <link>").text(link).raw("</link>\n")
+                    .raw("  <description>").text(description).raw("</description>\n");
+
+            OrderedBatches.run(posts, batchSize, PostMetadata::of, metadata -> item(out, metadata));
+
+            out.raw("</channel>\n</rss>\n");
+        }
+    }
+
+    private void item(XmlOutput out, PostMetadata metadata) throws IOException {
+        String url = link + metadata.getSlug();
+        String pubDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                metadata.getPublishedDate().atStartOfDay(ZoneOffset.UTC));
+
+        out.raw("  <item>\n")
+                .raw("    <title>").text(metadata.getTitle()).raw("</title>\n")
+                .raw("    <link>").text(url).raw("</link>\n")
+                .raw("    <guid isPermaLink=\"true\">").text(url).raw("</guid>\n")
+                .raw("    <pubDate>").raw(pubDate).raw("</pubDate>\n")
+                .raw("    <description>").text(metadata.getExcerpt())
+                .text(" (" + metadata.getReadingTimeText() + ")").raw("</description>\n")
+                .raw("  </item>\n");
+    }
+
+    /**
+     * Builder for {@link FeedWriter}. Not thread-safe; the built writer is.
+     */
+    public static final class Builder {
+        private final String title;
+        private final String link;
+        private String description = "";
+        private boolean gzip;
+        private int batchSize = 256;
+
+        private Builder(String title, String link) {
+            if (title == null || link == null || link.isEmpty()) {
+                throw new IllegalArgumentException("Feed title and link must not be empty");
+            }
+            this.title = title;
+            this.link = link.endsWith("/") ? link : link + "/";
+        }
+
+        /**
+         * Sets the channel description.
+         *
+         * @param description the channel description; null for none
+         * @return this builder
+         */
+        public Builder description(String description) {
+            this.description = description != null ? description : "";
+            return this;
+        }
+
+        /**
+         * Sets whether the feed is gzip-compressed.
+         *
+         * @param gzip true to write a gzip-compressed feed
+         * @return this builder
+         */
+        public Builder gzip(boolean gzip) {
+            this.gzip = gzip;
+            return this;
+        }
+
+        /**
+         * Sets how many posts are derived in parallel at a time.
+         *
+         * @param batchSize the number of posts per batch, greater than 0
+         * @return this builder
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Validates the settings and creates the writer.
+         *
+         * @return the writer
+         */
+        public FeedWriter build() {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be greater than 0");
+            }
+            return new FeedWriter(this);
+        }
+    }
+}
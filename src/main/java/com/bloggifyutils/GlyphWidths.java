@@ -0,0 +1,205 @@
+package com.bloggifyutils;
+
+/**
+ * Advance widths of characters in Arial, the font search engines use for result snippets,
+ * in units of 1/1000 em. ASCII and Latin-1 use the Helvetica AFM metrics, which Arial
+ * matches; other characters get the width of their class: 1000 for CJK and other
+ * full-width characters, 0 for combining marks and format characters, and typical
+ * letter, digit or punctuation widths for the rest.
+ *
+ * Widths of the Basic Multilingual Plane are computed in blocks of 256 characters the first
+ * time a character of the block is measured, so measuring text is an array lookup per
+ * character and loading the class does not compute the widths of scripts never seen.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class GlyphWidths {
+
+    static final int UNITS_PER_EM = 1000;
+
+    /** Widths of ' ' (0x20) to '~' (0x7E). */
+    private static final short[] ASCII = {
+        278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,  // space to /
+        556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,  // 0 to ?
+        1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778, // @ to O
+        667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,  // P to _
+        333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,  // ` to o
+        556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584         // p to ~
+    };
+
+    /** Widths of U+00A0 to U+00FF. The soft hyphen is invisible unless a line breaks there. */
+    private static final short[] LATIN_1 = {
+        278, 333, 556, 556, 556, 556, 260, 556, 333, 737, 370, 556, 584, 0, 737, 333,
+        400, 584, 333, 333, 333, 556, 537, 278, 333, 333, 365, 556, 834, 834, 834, 611,
+        667, 667, 667, 667, 667, 667, 1000, 722, 667, 667, 667, 667, 278, 278, 278, 278,
+        722, 722, 778, 778, 778, 778, 778, 584, 778, 722, 722, 722, 722, 667, 667, 611,
+        556, 556, 556, 556, 556, 556, 889, 500, 556, 556, 556, 556, 278, 278, 278, 278,
+        556, 556, 556, 556, 556, 556, 556, 584, 611, 556, 556, 556, 556, 500, 556, 500
+    };
+
+    private static final int BLOCK_BITS = 8;
+
+    /** Widths of the BMP by block of 256 characters; null until the block is first used. */
+    private static final Block[] BMP = new Block[0x10000 >>> BLOCK_BITS];
+
+    /**
+     * Widths of one block. The final field makes a block that another thread published
+     * without synchronization safe to read; at worst two threads compute the same block.
+     */
+    private static final class Block {
+        final short[] widths = new short[1 << BLOCK_BITS];
+
+        Block(int first) {
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = (short) computeWidth(first + i);
+            }
+        }
+    }
+
+    private GlyphWidths() {
+    }
+
+    /**
+     * Returns the width of a code point in units of 1/1000 em.
+     */
+    static int width(int codePoint) {
+        return codePoint < 0x10000 ? bmp((char) codePoint) : computeWidth(codePoint);
+    }
+
+    /**
+     * Returns the width of {@code text[from, to)} in units of 1/1000 em.
+     */
+    static long width(CharSequence text, int from, int to) {
+        long width = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+                width += computeWidth(Character.toCodePoint(c, text.charAt(++i)));
+            } else {
+                width += bmp(c);
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Returns the end of the longest run of text starting at {@code from} that is at most
+     * {@code budget} units wide. Never ends between the two halves of a surrogate pair.
+     */
+    static int fit(CharSequence text, int from, long budget) {
+        int length = text.length();
+        long used = 0;
+        int i = from;
+        while (i < length) {
+            char c = text.charAt(i);
+            int width;
+            int next = i + 1;
+            if (Character.isHighSurrogate(c) && next < length && Character.isLowSurrogate(text.charAt(next))) {
+                width = computeWidth(Character.toCodePoint(c, text.charAt(next)));
+                next++;
+            } else {
+                width = bmp(c);
+            }
+            if (used + width > budget) {
+                return i;
+            }
+            used += width;
+            i = next;
+        }
+        return length;
+    }
+
+    private static int bmp(char c) {
+        Block block = BMP[c >>> BLOCK_BITS];
+        if (block == null) {
+            block = new Block(c & ~((1 << BLOCK_BITS) - 1));
+            BMP[c >>> BLOCK_BITS] = block;
+        }
+        return block.widths[c & ((1 << BLOCK_BITS) - 1)];
+    }
+
+    /**
+     * Converts a width in pixels at a font size in pixels to units of 1/1000 em.
+     */
+    static long toUnits(double pixels, double fontSize) {
+        return (long) Math.floor(pixels * UNITS_PER_EM / fontSize);
+    }
+
+    private static int computeWidth(int c) {
+        if (c >= 0x20 && c <= 0x7E) {
+            return ASCII[c - 0x20];
+        }
+        if (c >= 0xA0 && c <= 0xFF) {
+            return LATIN_1[c - 0xA0];
+        }
+        if (c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B') {
+            // Rendered as a space in a snippet
+            return 278;
+        }
+
+        switch (c) {
+            case 0x2018: case 0x2019: case 0x201A:
+                return 222;
+            case 0x201C: case 0x201D: case 0x201E: case 0x2039: case 0x203A:
+                return 333;
+            case 0x2013: case 0x2020: case 0x2021: case 0x20AC:
+                return 556;
+            case 0x2022:
+                return 350;
+            case 0x2014: case 0x2026: case 0x2030: case 0x2122:
+                return 1000;
+            default:
+                break;
+        }
+
+        if (isWide(c)) {
+            return 1000;
+        }
+
+        switch (Character.getType(c)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.FORMAT:
+            case Character.CONTROL:
+            case Character.SURROGATE:
+            case Character.UNASSIGNED:
+                return 0;
+            case Character.SPACE_SEPARATOR:
+                return 278;
+            case Character.UPPERCASE_LETTER:
+            case Character.TITLECASE_LETTER:
+                return 667;
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+                return 333;
+            default:
+                return 556;
+        }
+    }
+
+    /**
+     * Returns true for East Asian wide and full-width characters, and emoji.
+     */
+    private static boolean isWide(int c) {
+        return (c >= 0x1100 && c <= 0x115F)     // Hangul Jamo initials
+                || (c >= 0x2600 && c <= 0x27BF) // Miscellaneous symbols and dingbats
+                || (c >= 0x2E80 && c <= 0x303E) // CJK radicals and punctuation
+                || (c >= 0x3041 && c <= 0x33FF) // Kana, Bopomofo, CJK compatibility
+                || (c >= 0x3400 && c <= 0x4DBF) // CJK extension A
+                || (c >= 0x4E00 && c <= 0x9FFF) // CJK unified ideographs
+                || (c >= 0xA000 && c <= 0xA4CF) // Yi
+                || (c >= 0xAC00 && c <= 0xD7A3) // Hangul syllables
+                || (c >= 0xF900 && c <= 0xFAFF) // CJK compatibility ideographs
+                || (c >= 0xFE30 && c <= 0xFE4F) // CJK compatibility forms
+                || (c >= 0xFF00 && c <= 0xFF60) // Full-width forms
+                || (c >= 0xFFE0 && c <= 0xFFE6)
+                || (c >= 0x1F000 && c <= 0x1FAFF) // Emoji and pictographs
+                || (c >= 0x20000 && c <= 0x3FFFD); // CJK extensions B and later
+    }
+}
@@ -0,0 +1,288 @@
+package com.bloggifyutils;
+
+/**
+ * Single-pass scanner over HTML or plain text that finds words and tags.
+ * A tag is a '&lt;' followed by the nearest '&gt;', the same rule as the regex
+ * {@code <[^>]*>} used elsewhere; tags and whitespace separate words.
+ *
+ * Characters are classified through a lookup table, and runs of ordinary characters
+ * are skipped in a tight loop that only stops at whitespace, '&lt;' or '&amp;'.
+ *
+ * A scanner can work on part of a string. It then also reports whether the range
+ * starts or ends inside a word, so counts of neighbouring ranges can be joined.
+ * The range must not start or end inside a tag.
+ *
+ * Instances hold the results of the last scan and are not thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+class HtmlScanner {
+
+    static final byte WHITESPACE = 1;
+    static final byte TAG_OPEN = 2;
+    static final byte ENTITY = 4;
+
+    /** Character classes for ASCII; everything else is an ordinary character. */
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c : new char[] {' ', '\t', '\n', '\u000B', '\f', '\r'}) {
+            CLASSES[c] = WHITESPACE;
+        }
+        CLASSES['<'] = TAG_OPEN;
+        CLASSES['&'] = ENTITY;
+    }
+
+    /** Entities decoded by {@link #strip}, with their replacements. */
+    private static final String[] ENTITIES = {"&nbsp;", "&amp;", "&lt;", "&gt;", "&quot;", "&#39;"};
+    private static final char[] DECODED = {' ', '&', '<', '>', '"', '\''};
+
+    int words;
+    boolean startsInWord;
+    boolean endsInWord;
+
+    /**
+     * Scans a whole string.
+     */
+    final void scan(String text) {
+        scan(text, 0, text.length());
+    }
+
+    /**
+     * Scans the characters from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    final void scan(String text, int from, int to) {
+        words = 0;
+        startsInWord = false;
+        endsInWord = false;
+
+        boolean inWord = false;
+        int wordStart = from;
+        // Once a '<' has no closing '>' in range, no later '<' can have one either
+        boolean unclosed = false;
+        int i = from;
+
+        while (i < to) {
+            int type = classOf(text.charAt(i));
+
+            if (type == TAG_OPEN && !unclosed) {
+                int close = CharSearch.indexOf(text, '>', i + 1, to);
+                if (close >= 0) {
+                    if (inWord) {
+                        words++;
+                        inWord = false;
+                        onWord(text, wordStart, i);
+                    }
+                    onTag(text, i, close + 1);
+                    i = close + 1;
+                    continue;
+                }
+                unclosed = true;
+            }
+
+            if (type == WHITESPACE) {
+                if (inWord) {
+                    words++;
+                    inWord = false;
+                    onWord(text, wordStart, i);
+                }
+                i++;
+                continue;
+            }
+
+            if (!inWord) {
+                inWord = true;
+                wordStart = i;
+                if (i == from) {
+                    startsInWord = true;
+                }
+            }
+            i = skipWord(text, i + 1, to);
+        }
+
+        if (inWord) {
+            words++;
+            endsInWord = true;
+            onWord(text, wordStart, to);
+        }
+    }
+
+    /**
+     * Called for every tag found by {@link #scan}, from its '&lt;' (inclusive)
+     * to just past its '&gt;'.
+     */
+    void onTag(String text, int start, int end) {
+    }
+
+    /**
+     * Called for every word found by {@link #scan}, from its first character (inclusive)
+     * to just past its last. Entities are not decoded.
+     */
+    void onWord(String text, int start, int end) {
+    }
+
+    /**
+     * Removes tags, decodes common entities and optionally collapses whitespace, in one pass.
+     * The result is trimmed.
+     */
+    static String strip(String content, boolean collapseWhitespace) {
+        return strip(content, 0, content.length(), collapseWhitespace);
+    }
+
+    /**
+     * Strips the characters from {@code from} (inclusive) to {@code to} (exclusive).
+     * The range must not start or end inside a tag.
+     */
+    static String strip(String content, int from, int to, boolean collapseWhitespace) {
+        StringBuilder out = new StringBuilder(to - from);
+        boolean pendingSpace = false;
+        boolean unclosed = false;
+        int i = from;
+
+        while (i < to) {
+            char c = content.charAt(i);
+            int type = classOf(c);
+
+            if (type == TAG_OPEN && !unclosed) {
+                int close = CharSearch.indexOf(content, '>', i + 1, to);
+                if (close >= 0) {
+                    // A tag becomes a space
+                    i = close + 1;
+                    if (collapseWhitespace) {
+                        pendingSpace = true;
+                    } else {
+                        out.append(' ');
+                    }
+                    continue;
+                }
+                unclosed = true;
+            }
+
+            if (type == ENTITY) {
+                int entity = entityAt(content, i, to);
+                if (entity >= 0) {
+                    c = DECODED[entity];
+                    i += ENTITIES[entity].length() - 1;
+                    type = c == ' ' ? WHITESPACE : 0;
+                }
+            }
+
+            if (type == WHITESPACE && collapseWhitespace) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+
+            if (pendingSpace) {
+                if (out.length() > 0) {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+            }
+            out.append(c);
+            i++;
+
+            // Copy the rest of an ordinary run in one go
+            int end = skipRun(content, i, to);
+            out.append(content, i, end);
+            i = end;
+        }
+
+        return out.toString().trim();
+    }
+
+    /**
+     * Returns true for the characters matched by the regex {@code \s}.
+     */
+    static boolean isWhitespace(char c) {
+        return c < 128 && CLASSES[c] == WHITESPACE;
+    }
+
+    static int classOf(char c) {
+        return c < 128 ? CLASSES[c] : 0;
+    }
+
+    /**
+     * Returns a position at or after {@code candidate} that is not inside a tag,
+     * or -1 if there is none before {@code to}.
+     */
+    static int safeSplit(String text, int from, int candidate, int to) {
+        int open = -1;
+        for (int i = candidate - 1; i >= from; i--) {
+            char c = text.charAt(i);
+            if (c == '>') {
+                return candidate;
+            }
+            if (c == '<') {
+                open = i;
+                break;
+            }
+        }
+        if (open < 0) {
+            return candidate;
+        }
+
+        // Inside a tag: split just after it closes
+        int close = CharSearch.indexOf(text, '>', candidate, to);
+        if (close < 0) {
+            // A '<' without any later '>' is plain text
+            return candidate;
+        }
+        return close + 1 < to ? close + 1 : -1;
+    }
+
+    /**
+     * Returns the character an entity found by {@link #entityAt} stands for.
+     */
+    static char decodedEntity(int entity) {
+        return DECODED[entity];
+    }
+
+    /**
+     * Returns the length of an entity found by {@link #entityAt}.
+     */
+    static int entityLength(int entity) {
+        return ENTITIES[entity].length();
+    }
+
+    /**
+     * Skips characters that continue a word: anything but whitespace and '&lt;'.
+     */
+    private static int skipWord(String text, int i, int to) {
+        while (i < to) {
+            char c = text.charAt(i);
+            if (c < 128 && (CLASSES[c] & (WHITESPACE | TAG_OPEN)) != 0) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Skips ordinary characters: anything without a class.
+     */
+    private static int skipRun(String text, int i, int to) {
+        while (i < to) {
+            char c = text.charAt(i);
+            if (c < 128 && CLASSES[c] != 0) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the entity starting at {@code i}, or -1 if there is none.
+     */
+    static int entityAt(String text, int i, int to) {
+        for (int e = 0; e < ENTITIES.length; e++) {
+            if (i + ENTITIES[e].length() <= to && text.startsWith(ENTITIES[e], i)) {
+                return e;
+            }
+        }
+        return -1;
+    }
+}
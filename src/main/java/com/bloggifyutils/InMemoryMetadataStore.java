@@ -0,0 +1,24 @@
+package com.bloggifyutils;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link MetadataStore}: a concurrent map from post ID to metadata.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class InMemoryMetadataStore implements MetadataStore {
+
+    private final ConcurrentHashMap<String, PostMetadata> metadata = new ConcurrentHashMap<>();
+
+    @Override
+    public PostMetadata get(String postId) {
+        return postId != null ? metadata.get(postId) : null;
+    }
+
+    @Override
+    public void put(PostMetadata postMetadata) {
+        metadata.put(postMetadata.getPostId(), postMetadata);
+    }
+}
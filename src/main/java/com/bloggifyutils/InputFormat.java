@@ -0,0 +1,17 @@
+package com.bloggifyutils;
+
+/**
+ * The markup a blog post is written in.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public enum InputFormat {
+    /** HTML or plain text: tags are skipped and common entities decoded. */
+    HTML,
+    /**
+     * Markdown source: syntax characters, fenced code blocks and link URLs are skipped
+     * directly in the source, without rendering it to HTML first.
+     */
+    MARKDOWN
+}
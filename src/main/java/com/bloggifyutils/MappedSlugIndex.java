@@ -0,0 +1,215 @@
+package com.bloggifyutils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A slug index backed by an append-only log file, so the set of taken slugs survives restarts.
+ * On open the log is memory-mapped and replayed into an {@link OffHeapSlugSet}, which takes
+ * milliseconds instead of reloading every slug from a database.
+ *
+ * Each record carries a CRC32 checksum. A record torn by a crash fails its checksum and is
+ * cut off, together with anything after it, the next time the file is opened.
+ * Lookups and appends may be called from several threads at once; lookups do not lock.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class MappedSlugIndex implements SlugIndex, Closeable {
+
+    private static final int MAGIC = 0x42534C47; // "BSLG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int LENGTH_BYTES = 2;
+    private static final int CHECKSUM_BYTES = 4;
+    private static final int MIN_RECORD_BYTES = LENGTH_BYTES + CHECKSUM_BYTES;
+    /** Record size used to size the set on open: a slug of about 26 characters. */
+    private static final int TYPICAL_RECORD_BYTES = 32;
+
+    private final FileChannel channel;
+    private final OffHeapSlugSet slugs;
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer record = ByteBuffer.allocate(256);
+    private long position;
+
+    private MappedSlugIndex(FileChannel channel, OffHeapSlugSet slugs, long position) {
+        this.channel = channel;
+        this.slugs = slugs;
+        this.position = position;
+    }
+
+    /**
+     * Opens the slug index stored in a file, creating the file if it does not exist.
+     *
+     * @param file path of the log file
+     * @return the opened index
+     * @throws IOException if the file cannot be read or is not a slug index
+     */
+    public static MappedSlugIndex open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+                header.flip();
+                writeFully(channel, header, 0);
+                channel.force(true);
+                return new MappedSlugIndex(channel, new OffHeapSlugSet(), HEADER_BYTES);
+            }
+
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Slug index is too large: " + file);
+            }
+
+            MappedByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < HEADER_BYTES || log.getInt(0) != MAGIC || log.getInt(4) != VERSION) {
+                throw new IOException("Not a slug index file: " + file);
+            }
+
+            OffHeapSlugSet slugs = new OffHeapSlugSet(expectedSlugs(size));
+            long end = replay(log, slugs);
+
+            // Drop a record torn by a crash so new records follow the last good one
+            if (end < size) {
+                channel.truncate(end);
+            }
+            return new MappedSlugIndex(channel, slugs, end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean contains(CharSequence slug) {
+        return slugs.contains(slug);
+    }
+
+    @Override
+    public synchronized boolean add(CharSequence slug) {
+        OffHeapSlugSet.checkStorable(slug);
+        if (slugs.contains(slug)) {
+            return false;
+        }
+
+        try {
+            append(slug);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append slug to index", e);
+        }
+        return slugs.add(slug);
+    }
+
+    @Override
+    public int size() {
+        return slugs.size();
+    }
+
+    /**
+     * Forces appended slugs to storage. Slugs added before a crash but not synced
+     * may be lost, but never corrupt the index.
+     *
+     * @throws IOException if the file cannot be synced
+     */
+    public void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Syncs and closes the underlying file.
+     *
+     * @throws IOException if the file cannot be synced or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            try {
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Estimates how many slugs a log of the given size holds. The set grows if there are more.
+     */
+    static int expectedSlugs(long logBytes) {
+        long records = (logBytes - HEADER_BYTES) / TYPICAL_RECORD_BYTES;
+        return (int) Math.max(1, Math.min(records, OffHeapSlugSet.MAX_SLUGS));
+    }
+
+    /**
+     * Reads records from the mapped log into the set.
+     *
+     * @return file offset just past the last valid record
+     */
+    private static long replay(ByteBuffer log, OffHeapSlugSet slugs) {
+        CRC32 crc = new CRC32();
+        StringBuilder slug = new StringBuilder(64);
+        int limit = log.limit();
+        int offset = HEADER_BYTES;
+
+        while (limit - offset >= MIN_RECORD_BYTES) {
+            int length = log.getShort(offset) & 0xFFFF;
+            int end = offset + LENGTH_BYTES + length + CHECKSUM_BYTES;
+            if (end > limit) {
+                break;
+            }
+
+            ByteBuffer payload = log.duplicate();
+            payload.position(offset).limit(offset + LENGTH_BYTES + length);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != log.getInt(end - CHECKSUM_BYTES)) {
+                break;
+            }
+
+            slug.setLength(0);
+            for (int i = offset + LENGTH_BYTES; i < offset + LENGTH_BYTES + length; i++) {
+                slug.append((char) (log.get(i) & 0x7F));
+            }
+            slugs.add(slug);
+            offset = end;
+        }
+        return offset;
+    }
+
+    /**
+     * Writes one length-prefixed, checksummed record at the end of the log.
+     */
+    private void append(CharSequence slug) throws IOException {
+        int length = slug.length();
+        int recordBytes = LENGTH_BYTES + length + CHECKSUM_BYTES;
+        if (record.capacity() < recordBytes) {
+            record = ByteBuffer.allocate(Math.max(recordBytes, record.capacity() * 2));
+        }
+
+        record.clear();
+        record.putShort((short) length);
+        for (int i = 0; i < length; i++) {
+            record.put((byte) slug.charAt(i));
+        }
+        checksum.reset();
+        checksum.update(record.array(), 0, record.position());
+        record.putInt((int) checksum.getValue());
+        record.flip();
+
+        writeFully(channel, record, position);
+        position += recordBytes;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
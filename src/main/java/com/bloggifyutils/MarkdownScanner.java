@@ -0,0 +1,588 @@
+package com.bloggifyutils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass scanner that reads the visible text straight out of Markdown source,
+ * so Markdown posts do not have to be rendered to HTML before they are measured.
+ *
+ * Skipped: fenced code blocks, heading and list markers, block quotes, thematic breaks,
+ * emphasis and strikethrough characters, link and image URLs, reference definitions,
+ * table pipes and inline HTML tags. Kept: heading text, link text, image alt text and
+ * inline code. Backslash escapes and common entities are decoded.
+ *
+ * Words are counted like {@link HtmlScanner} counts them: runs of characters between
+ * whitespace. Instances are not thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class MarkdownScanner {
+
+    private static final String ESCAPABLE = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+    /** Links nested deeper than this are kept as text, so the scan does not recurse without bound. */
+    private static final int MAX_LINK_DEPTH = 32;
+
+    int words;
+
+    /** The visible text, or null when only counting words. */
+    private final StringBuilder out;
+    private final boolean collapseWhitespace;
+    private boolean pendingSpace;
+    private boolean inWord;
+
+    /** The line being scanned, so brackets and backtick runs are matched once per line. */
+    private int lineFrom;
+    private int lineTo;
+    /** For each bracket and parenthesis that opens on the line, the index closing it, or -1. */
+    private int[] pairs = new int[0];
+    private boolean pairsFound;
+    /** The starts of the line's backtick runs, by run length; null until needed. */
+    private Map<Integer, List<Integer>> backtickRuns;
+    private int linkDepth;
+
+    private MarkdownScanner(boolean buildText, boolean collapseWhitespace) {
+        this.out = buildText ? new StringBuilder() : null;
+        this.collapseWhitespace = collapseWhitespace;
+    }
+
+    /**
+     * Returns the visible text of Markdown, trimmed, optionally with whitespace collapsed.
+     */
+    static String strip(String markdown, boolean collapseWhitespace) {
+        MarkdownScanner scanner = new MarkdownScanner(true, collapseWhitespace);
+        scanner.scan(markdown, false);
+        return scanner.out.toString().trim();
+    }
+
+    /**
+     * Counts the visible words of Markdown without building its text.
+     */
+    static int countWords(String markdown) {
+        MarkdownScanner scanner = new MarkdownScanner(false, true);
+        scanner.scan(markdown, false);
+        return scanner.words;
+    }
+
+    /**
+     * Returns the text of the first paragraph that has any, skipping headings and code blocks.
+     */
+    static String firstParagraph(String markdown) {
+        MarkdownScanner scanner = new MarkdownScanner(true, true);
+        scanner.scan(markdown, true);
+        return scanner.out.toString().trim();
+    }
+
+    private void scan(String md, boolean firstParagraphOnly) {
+        int length = md.length();
+        int pos = 0;
+        char fence = 0;
+        int fenceLength = 0;
+        boolean inParagraph = false;
+
+        while (pos < length) {
+            int eol = md.indexOf('\n', pos);
+            if (eol < 0) {
+                eol = length;
+            }
+            int end = eol > pos && md.charAt(eol - 1) == '\r' ? eol - 1 : eol;
+            int next = eol + 1;
+            int start = skipSpaces(md, pos, end);
+            boolean indented = start - pos > 3;
+
+            if (fence != 0) {
+                int run = runLength(md, start, end, fence);
+                if (run >= fenceLength && skipSpaces(md, start + run, end) == end) {
+                    fence = 0;
+                }
+                pos = next;
+                continue;
+            }
+
+            int blockEnd = -1;
+            if (start == end) {
+                blockEnd = start;
+            } else if (!indented && (runLength(md, start, end, '`') >= 3 || runLength(md, start, end, '~') >= 3)) {
+                fence = md.charAt(start);
+                fenceLength = runLength(md, start, end, fence);
+                blockEnd = start;
+            } else if (!indented && inParagraph && isSetextUnderline(md, start, end)) {
+                // The paragraph so far was a heading
+                if (firstParagraphOnly) {
+                    reset();
+                }
+                inParagraph = false;
+                pos = next;
+                continue;
+            } else if (!indented && isTableDelimiter(md, start, end)) {
+                pos = next;
+                continue;
+            } else if (!indented && (isThematicBreak(md, start, end) || isReferenceDefinition(md, start, end))) {
+                blockEnd = start;
+            }
+
+            if (blockEnd >= 0) {
+                if (firstParagraphOnly && inParagraph && words > 0) {
+                    return;
+                }
+                inParagraph = false;
+                space('\n');
+                pos = next;
+                continue;
+            }
+
+            int i = indented ? start : skipMarkers(md, start, end);
+            int level = indented ? 0 : headingLevel(md, i, end);
+            if (level > 0) {
+                if (firstParagraphOnly) {
+                    if (inParagraph && words > 0) {
+                        return;
+                    }
+                } else {
+                    line(md, skipSpaces(md, i + level, end), closingHashes(md, i + level, end));
+                }
+                inParagraph = false;
+            } else {
+                line(md, i, end);
+                inParagraph = true;
+            }
+            space('\n');
+            pos = next;
+        }
+    }
+
+    /**
+     * Emits the visible text of one line of inline content.
+     */
+    private void line(String md, int from, int to) {
+        lineFrom = from;
+        lineTo = to;
+        pairsFound = false;
+        backtickRuns = null;
+        inline(md, from, to);
+    }
+
+    /**
+     * Emits the visible text of inline content within the current line.
+     */
+    private void inline(String md, int from, int to) {
+        // Once a '<' has no closing '>' in range, no later '<' can have one either
+        boolean unclosedTag = false;
+        int i = from;
+        while (i < to) {
+            char c = md.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 < to && ESCAPABLE.indexOf(md.charAt(i + 1)) >= 0) {
+                        text(md.charAt(i + 1));
+                        i += 2;
+                    } else {
+                        // A backslash at the end of a line is a hard line break
+                        if (i + 1 < to) {
+                            text(c);
+                        }
+                        i++;
+                    }
+                    break;
+                case '`': {
+                    int run = runLength(md, i, to, '`');
+                    int close = closingBackticks(md, i + run, to, run);
+                    if (close >= 0) {
+                        for (int k = i + run; k < close; k++) {
+                            text(md.charAt(k));
+                        }
+                        i = close + run;
+                    } else {
+                        for (int k = 0; k < run; k++) {
+                            text(c);
+                        }
+                        i += run;
+                    }
+                    break;
+                }
+                case '!':
+                    if (i + 1 < to && md.charAt(i + 1) == '[') {
+                        int after = link(md, i + 1, to);
+                        if (after >= 0) {
+                            i = after;
+                            break;
+                        }
+                    }
+                    text(c);
+                    i++;
+                    break;
+                case '[': {
+                    int after = link(md, i, to);
+                    if (after >= 0) {
+                        i = after;
+                    } else {
+                        text(c);
+                        i++;
+                    }
+                    break;
+                }
+                case '<': {
+                    int close = unclosedTag ? -1 : CharSearch.indexOf(md, '>', i + 1, to);
+                    unclosedTag = close < 0;
+                    if (close >= 0 && i + 1 < close && isTagStart(md.charAt(i + 1))) {
+                        // Inline HTML and autolinks: the tag or URL is not visible text
+                        space(' ');
+                        i = close + 1;
+                    } else {
+                        text(c);
+                        i++;
+                    }
+                    break;
+                }
+                case '&': {
+                    int entity = HtmlScanner.entityAt(md, i, to);
+                    if (entity >= 0) {
+                        text(HtmlScanner.decodedEntity(entity));
+                        i += HtmlScanner.entityLength(entity);
+                    } else {
+                        text(c);
+                        i++;
+                    }
+                    break;
+                }
+                case '*':
+                    i++;
+                    break;
+                case '~':
+                    if (i + 1 < to && md.charAt(i + 1) == '~') {
+                        i += 2;
+                    } else {
+                        text(c);
+                        i++;
+                    }
+                    break;
+                case '_':
+                    // Keep underscores inside words, e.g. snake_case
+                    if (i > from && Character.isLetterOrDigit(md.charAt(i - 1))
+                            && i + 1 < to && Character.isLetterOrDigit(md.charAt(i + 1))) {
+                        text(c);
+                    }
+                    i++;
+                    break;
+                case '|':
+                    space(' ');
+                    i++;
+                    break;
+                default:
+                    text(c);
+                    i++;
+            }
+        }
+    }
+
+    /**
+     * Emits the text of a link or image starting at '[' and returns the index after
+     * its destination, or -1 if the bracket is not closed on this line or nested too deep.
+     */
+    private int link(String md, int open, int to) {
+        if (linkDepth == MAX_LINK_DEPTH) {
+            return -1;
+        }
+        int close = matching(md, open, to);
+        if (close < 0) {
+            return -1;
+        }
+
+        int after = close + 1;
+        if (after < to && md.charAt(after) == '(') {
+            int end = matching(md, after, to);
+            if (end < 0) {
+                return -1;
+            }
+            after = end + 1;
+        } else if (after < to && md.charAt(after) == '[') {
+            int end = matching(md, after, to);
+            if (end >= 0) {
+                after = end + 1;
+            }
+        }
+
+        linkDepth++;
+        inline(md, open + 1, close);
+        linkDepth--;
+        return after;
+    }
+
+    private void text(char c) {
+        if (HtmlScanner.isWhitespace(c)) {
+            space(c);
+            return;
+        }
+        if (!inWord) {
+            words++;
+            inWord = true;
+        }
+        if (out != null) {
+            if (pendingSpace) {
+                if (out.length() > 0) {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+            }
+            out.append(c);
+        }
+    }
+
+    /**
+     * Ends the current word. The whitespace is kept as is unless whitespace is collapsed.
+     */
+    private void space(char c) {
+        inWord = false;
+        if (out != null) {
+            if (collapseWhitespace) {
+                pendingSpace = true;
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private void reset() {
+        words = 0;
+        inWord = false;
+        pendingSpace = false;
+        if (out != null) {
+            out.setLength(0);
+        }
+    }
+
+    /**
+     * Skips block quote markers, list markers and task list boxes.
+     */
+    private static int skipMarkers(String md, int i, int end) {
+        while (i < end) {
+            char c = md.charAt(i);
+            if (c == '>') {
+                i = skipSpaces(md, i + 1, end);
+            } else if ((c == '-' || c == '*' || c == '+') && (i + 1 == end || isSpace(md.charAt(i + 1)))) {
+                i = skipSpaces(md, i + 1, end);
+            } else if (c >= '0' && c <= '9') {
+                int j = i;
+                while (j < end && j - i < 9 && md.charAt(j) >= '0' && md.charAt(j) <= '9') {
+                    j++;
+                }
+                if (j < end && (md.charAt(j) == '.' || md.charAt(j) == ')')
+                        && (j + 1 == end || isSpace(md.charAt(j + 1)))) {
+                    i = skipSpaces(md, j + 1, end);
+                } else {
+                    break;
+                }
+            } else {
+                break;
+            }
+        }
+
+        // Task list box: [ ] or [x]
+        if (i + 2 < end && md.charAt(i) == '[' && md.charAt(i + 2) == ']'
+                && " xX".indexOf(md.charAt(i + 1)) >= 0 && (i + 3 == end || isSpace(md.charAt(i + 3)))) {
+            i = skipSpaces(md, i + 3, end);
+        }
+        return i;
+    }
+
+    /**
+     * Returns the number of '#' of an ATX heading at {@code i}, or 0.
+     */
+    private static int headingLevel(String md, int i, int end) {
+        int level = runLength(md, i, end, '#');
+        if (level < 1 || level > 6) {
+            return 0;
+        }
+        return i + level == end || isSpace(md.charAt(i + level)) ? level : 0;
+    }
+
+    /**
+     * Returns the end of a heading's text, before an optional closing run of '#'.
+     */
+    private static int closingHashes(String md, int from, int end) {
+        int i = trimEnd(md, from, end);
+        int text = i;
+        while (i > from && md.charAt(i - 1) == '#') {
+            i--;
+        }
+        return i == from || isSpace(md.charAt(i - 1)) ? trimEnd(md, from, i) : text;
+    }
+
+    private static int trimEnd(String md, int from, int end) {
+        while (end > from && isSpace(md.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isThematicBreak(String md, int start, int end) {
+        char c = md.charAt(start);
+        if (c != '-' && c != '*' && c != '_') {
+            return false;
+        }
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            char x = md.charAt(i);
+            if (x == c) {
+                count++;
+            } else if (!isSpace(x)) {
+                return false;
+            }
+        }
+        return count >= 3;
+    }
+
+    /**
+     * Returns true for the row under a table header, e.g. |---|:-:|
+     */
+    private static boolean isTableDelimiter(String md, int start, int end) {
+        boolean pipe = false;
+        boolean dash = false;
+        for (int i = start; i < end; i++) {
+            char c = md.charAt(i);
+            if (c == '|') {
+                pipe = true;
+            } else if (c == '-') {
+                dash = true;
+            } else if (c != ':' && !isSpace(c)) {
+                return false;
+            }
+        }
+        return pipe && dash;
+    }
+
+    private static boolean isSetextUnderline(String md, int start, int end) {
+        char c = md.charAt(start);
+        if (c != '=' && c != '-') {
+            return false;
+        }
+        return skipSpaces(md, start + runLength(md, start, end, c), end) == end;
+    }
+
+    /**
+     * Returns true for a link reference or footnote definition: [label]: ...
+     */
+    private static boolean isReferenceDefinition(String md, int start, int end) {
+        if (md.charAt(start) != '[') {
+            return false;
+        }
+        for (int i = start + 1; i + 1 < end; i++) {
+            if (md.charAt(i) == ']') {
+                return i > start + 1 && md.charAt(i + 1) == ':';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the bracket or parenthesis closing the one at {@code open}
+     * before {@code to}, or -1.
+     */
+    private int matching(String md, int open, int to) {
+        if (!pairsFound) {
+            findPairs(md);
+        }
+        int close = pairs[open - lineFrom];
+        return close < to ? close : -1;
+    }
+
+    /**
+     * Matches the brackets and parentheses of the current line in one pass. The openers
+     * waiting for a match are chained through {@code pairs} instead of a separate stack.
+     */
+    private void findPairs(String md) {
+        if (pairs.length < lineTo - lineFrom) {
+            pairs = new int[lineTo - lineFrom];
+        }
+        int brackets = -1;
+        int parens = -1;
+        for (int i = lineFrom; i < lineTo; i++) {
+            char c = md.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                pairs[i - lineFrom] = brackets;
+                brackets = i;
+            } else if (c == '(') {
+                pairs[i - lineFrom] = parens;
+                parens = i;
+            } else if (c == ']' && brackets >= 0) {
+                int open = brackets;
+                brackets = pairs[open - lineFrom];
+                pairs[open - lineFrom] = i;
+            } else if (c == ')' && parens >= 0) {
+                int open = parens;
+                parens = pairs[open - lineFrom];
+                pairs[open - lineFrom] = i;
+            }
+        }
+        unmatched(brackets);
+        unmatched(parens);
+        pairsFound = true;
+    }
+
+    private void unmatched(int open) {
+        while (open >= 0) {
+            int next = pairs[open - lineFrom];
+            pairs[open - lineFrom] = -1;
+            open = next;
+        }
+    }
+
+    /**
+     * Returns the start of the first run of exactly {@code run} backticks at or after
+     * {@code from} and before {@code to}, or -1.
+     */
+    private int closingBackticks(String md, int from, int to, int run) {
+        if (backtickRuns == null) {
+            backtickRuns = new HashMap<>();
+            int i = lineFrom;
+            while (i < lineTo) {
+                if (md.charAt(i) == '`') {
+                    int length = runLength(md, i, lineTo, '`');
+                    backtickRuns.computeIfAbsent(length, k -> new ArrayList<>()).add(i);
+                    i += length;
+                } else {
+                    i++;
+                }
+            }
+        }
+        List<Integer> starts = backtickRuns.get(run);
+        if (starts == null) {
+            return -1;
+        }
+        int k = Collections.binarySearch(starts, from);
+        if (k < 0) {
+            k = -k - 1;
+        }
+        return k < starts.size() && starts.get(k) < to ? starts.get(k) : -1;
+    }
+
+    private static int runLength(String md, int i, int end, char c) {
+        int start = i;
+        while (i < end && md.charAt(i) == c) {
+            i++;
+        }
+        return i - start;
+    }
+
+    private static int skipSpaces(String md, int i, int end) {
+        while (i < end && isSpace(md.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private static boolean isTagStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '/' || c == '!' || c == '?';
+    }
+}
@@ -0,0 +1,437 @@
+package com.bloggifyutils;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Derives post metadata off the request path. Publish a "post changed" event with
+ * {@link #submit(Post)} and a worker thread derives the excerpt, reading time and slug
+ * into a {@link MetadataStore}; request threads only call {@link #get(String)}.
+ *
+ * Events for a post that is already waiting are coalesced: the waiting event is
+ * replaced by the newer version of the post and no queue slot is used. Each post is
+ * derived by one worker at a time, so an older version never overwrites a newer one.
+ * When the queue is full, events for new posts are rejected rather than blocking the caller.
+ *
+ * Example:
+ * <pre>
+ * MetadataPrecomputer precomputer = MetadataPrecomputer.builder().workers(2).build();
+ * precomputer.warmUp(recentPosts);
+ * precomputer.submit(changedPost);          // on the write path
+ * PostMetadata metadata = precomputer.get(postId); // on the request path
+ * </pre>
+ *
+ * The precomputer is thread-safe. Close it to stop the workers.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class MetadataPrecomputer implements Closeable {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final MetadataStore store;
+    private final Function<Post, PostMetadata> derive;
+    private final int queueCapacity;
+
+    // Post IDs waiting for a worker; each ID is queued at most once
+    private final BlockingQueue<String> queue;
+    // One queue slot per waiting post ID, taken when the event is accepted
+    private final Semaphore slots;
+    // Waiting and running posts by ID, only changed inside compute()
+    private final ConcurrentHashMap<String, Entry> pending = new ConcurrentHashMap<>();
+    private final Object idle = new Object();
+
+    private final ExecutorService workers;
+    private final AtomicLong computed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean closed;
+
+    private MetadataPrecomputer(Builder builder) {
+        this.store = builder.store != null ? builder.store : MetadataStore.inMemory();
+        this.derive = builder.derive;
+        this.queueCapacity = builder.queueCapacity;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.slots = new Semaphore(queueCapacity);
+
+        String prefix = "bloggify-metadata-" + INSTANCES.incrementAndGet() + "-";
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(builder.workers, task -> {
+            Thread thread = new Thread(task, prefix + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < builder.workers; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    /**
+     * Creates a builder with one worker per spare core, room for 10000 waiting posts,
+     * an in-memory store and {@link PostMetadata#of(Post)} as the derivation.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Publishes a "post changed" event. Never blocks.
+     *
+     * @param post the new version of the post
+     * @return true if the event was queued or coalesced, false if the queue is full
+     * @throws IllegalStateException if the precomputer is closed
+     */
+    public boolean submit(Post post) {
+        if (post == null) {
+            throw new IllegalArgumentException("Post must not be null");
+        }
+        checkOpen();
+
+        if (!enqueue(post, false)) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Derives the metadata of the given posts on the worker threads and waits until
+     * it is stored. Run this at startup so the store is filled and the workers' code
+     * is compiled by the JIT before the first request. Waits for queue slots rather
+     * than rejecting posts.
+     *
+     * @param posts the posts to derive, e.g. the most recent or most read ones
+     * @return the number of posts submitted
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the precomputer is closed, also while waiting
+     */
+    public int warmUp(Iterable<Post> posts) throws InterruptedException {
+        checkOpen();
+
+        int count = 0;
+        for (Post post : posts) {
+            slots.acquire();
+            if (closed) {
+                // Pass the slot on, so every warmUp woken by close() gets one
+                slots.release();
+                checkOpen();
+            }
+            enqueue(post, true);
+            count++;
+        }
+        awaitIdle(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        checkOpen();
+        return count;
+    }
+
+    /**
+     * Looks up the metadata of a post. Never derives it on the calling thread.
+     *
+     * @param postId the post identifier
+     * @return the stored metadata, or null if it has not been derived yet
+     */
+    public PostMetadata get(String postId) {
+        return store.get(postId);
+    }
+
+    /**
+     * Waits until no post is waiting or being derived. Closing the precomputer drops the
+     * waiting posts, which also ends the wait.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if idle, false if the timeout elapsed or the precomputer was closed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + Math.min(unit.toNanos(timeout), Long.MAX_VALUE / 2);
+        synchronized (idle) {
+            while (!pending.isEmpty()) {
+                if (closed) {
+                    return false;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the store the derived metadata is written to.
+     *
+     * @return the metadata store
+     */
+    public MetadataStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns how many posts may wait for a worker before events are rejected.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the number of posts waiting for a worker or being derived.
+     *
+     * @return the number of pending posts
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of posts whose metadata was derived and stored.
+     *
+     * @return the number of derived posts
+     */
+    public long getComputedCount() {
+        return computed.get();
+    }
+
+    /**
+     * Returns the number of posts whose derivation threw an exception.
+     *
+     * @return the number of failed derivations
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Returns the number of events rejected because the queue was full.
+     *
+     * @return the number of rejected events
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Stops the workers. Waiting events are dropped; the store keeps its contents.
+     * Threads blocked in {@link #warmUp(Iterable)} or {@link #awaitIdle(long, TimeUnit)}
+     * are woken.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        workers.shutdownNow();
+        queue.clear();
+        pending.clear();
+        slots.release(queueCapacity);
+        synchronized (idle) {
+            idle.notifyAll();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Metadata precomputer is closed");
+        }
+    }
+
+    /**
+     * Queues or coalesces an event. With {@code slotTaken}, the caller already holds a slot,
+     * which is given back if the event does not need it.
+     */
+    private boolean enqueue(Post post, boolean slotTaken) {
+        boolean[] usedSlot = new boolean[1];
+        boolean[] accepted = new boolean[1];
+        pending.compute(post.getId(), (id, entry) -> {
+            if (entry != null && entry.next != null) {
+                // Already waiting: the newer version replaces it
+                entry.next = post;
+                accepted[0] = true;
+                return entry;
+            }
+            if (!slotTaken && !slots.tryAcquire()) {
+                return entry;
+            }
+            usedSlot[0] = true;
+            accepted[0] = true;
+            if (entry == null) {
+                entry = new Entry();
+                queue.add(id);
+            }
+            // A running entry is queued again by its worker when it finishes
+            entry.next = post;
+            return entry;
+        });
+        if (slotTaken && !usedSlot[0]) {
+            slots.release();
+        }
+        return accepted[0];
+    }
+
+    private void work() {
+        while (true) {
+            String id;
+            try {
+                id = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            Post post = start(id);
+            if (post == null) {
+                // Dropped by close()
+                continue;
+            }
+            try {
+                store.put(derive.apply(post));
+                computed.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+            } catch (Error e) {
+                failed.incrementAndGet();
+                // This loop ends with the error; start another so the pool keeps its workers
+                restartWorker();
+                throw e;
+            } finally {
+                finish(id);
+            }
+        }
+    }
+
+    private void restartWorker() {
+        if (!closed) {
+            try {
+                workers.execute(this::work);
+            } catch (RejectedExecutionException e) {
+                // Closed meanwhile
+            }
+        }
+    }
+
+    private Post start(String id) {
+        Post[] post = new Post[1];
+        pending.compute(id, (key, entry) -> {
+            if (entry != null) {
+                post[0] = entry.next;
+                entry.next = null;
+            }
+            return entry;
+        });
+        slots.release();
+        return post[0];
+    }
+
+    private void finish(String id) {
+        Entry remaining = pending.compute(id, (key, entry) -> {
+            if (entry == null || entry.next == null) {
+                return null;
+            }
+            // Changed while running: derive the newer version next, with the slot it took
+            queue.add(key);
+            return entry;
+        });
+        if (remaining == null && pending.isEmpty()) {
+            synchronized (idle) {
+                idle.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * State of one post ID: the version waiting to be derived, null while a worker
+     * derives the previous version and no newer one has arrived.
+     */
+    private static final class Entry {
+        Post next;
+    }
+
+    /**
+     * Builder for {@link MetadataPrecomputer}. Not thread-safe; the built precomputer is.
+     */
+    public static final class Builder {
+        private int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        private int queueCapacity = 10_000;
+        private MetadataStore store;
+        private Function<Post, PostMetadata> derive = PostMetadata::of;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of worker threads.
+         *
+         * @param workers the number of worker threads, greater than 0
+         * @return this builder
+         */
+        public Builder workers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Sets how many posts may wait for a worker before events are rejected.
+         *
+         * @param queueCapacity the queue capacity, greater than 0
+         * @return this builder
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets where metadata is stored. Defaults to {@link MetadataStore#inMemory()}.
+         *
+         * @param store the metadata store
+         * @return this builder
+         */
+        public Builder store(MetadataStore store) {
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * Sets how metadata is derived from a post, e.g. with an {@link ExcerptPolicy}.
+         *
+         * @param derive the function that derives a post's metadata
+         * @return this builder
+         */
+        public Builder derive(Function<Post, PostMetadata> derive) {
+            this.derive = derive;
+            return this;
+        }
+
+        /**
+         * Validates the settings and starts the workers.
+         *
+         * @return the running precomputer
+         */
+        public MetadataPrecomputer build() {
+            if (workers <= 0) {
+                throw new IllegalArgumentException("Workers must be greater than 0");
+            }
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be greater than 0");
+            }
+            if (derive == null) {
+                throw new IllegalArgumentException("Derive function must not be null");
+            }
+            return new MetadataPrecomputer(this);
+        }
+    }
+}
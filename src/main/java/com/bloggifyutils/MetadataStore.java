@@ -0,0 +1,39 @@
+package com.bloggifyutils;
+
+/**
+ * Where {@link MetadataPrecomputer} keeps the metadata it derives, and where request
+ * threads look it up. Implement it to keep metadata in a shared cache or database.
+ *
+ * Implementations must be thread-safe: workers write while request threads read.
+ * The precomputer never writes two versions of the same post at the same time.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public interface MetadataStore {
+
+    /**
+     * Returns the metadata of a post.
+     *
+     * @param postId the post identifier
+     * @return the stored metadata, or null if none has been stored yet
+     */
+    PostMetadata get(String postId);
+
+    /**
+     * Stores the metadata of a post, replacing any earlier version.
+     *
+     * @param metadata the metadata to store
+     */
+    void put(PostMetadata metadata);
+
+    /**
+     * Creates a store backed by a {@link java.util.concurrent.ConcurrentHashMap}.
+     * Lookups never lock.
+     *
+     * @return a new, empty in-memory store
+     */
+    static MetadataStore inMemory() {
+        return new InMemoryMetadataStore();
+    }
+}
@@ -0,0 +1,270 @@
+package com.bloggifyutils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A slug index that keeps its slugs outside the Java heap.
+ * Slugs are stored as packed ASCII bytes in a direct buffer and found through an
+ * open-addressing hash table, so a lookup never creates a String.
+ *
+ * Only ASCII slugs can be stored, which covers everything produced by {@link SlugGenerator}.
+ * Lookups read the table optimistically, without locking or writing shared state, and only
+ * take a read lock if a slug was added meanwhile. Adds take the write lock.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class OffHeapSlugSet implements SlugIndex {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_SLUG_LENGTH = 0xFFFF;
+    private static final int SLOT_BYTES = 8; // int hash + int (offset + 1)
+    private static final int LENGTH_BYTES = 2;
+    /** Most slots a table can have while its size in bytes still fits in an int. */
+    private static final int MAX_CAPACITY = 1 << 27;
+    /** Most slugs a set can hold, keeping the largest table half full. */
+    static final int MAX_SLUGS = MAX_CAPACITY / 2;
+
+    private final StampedLock lock = new StampedLock();
+    private ByteBuffer slots;
+    private ByteBuffer arena;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty set with room for about 1024 slugs before it grows.
+     */
+    public OffHeapSlugSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty set sized for the expected number of slugs.
+     *
+     * @param expectedSlugs number of slugs the set should hold without growing, at most 67108864
+     */
+    public OffHeapSlugSet(int expectedSlugs) {
+        if (expectedSlugs <= 0) {
+            throw new IllegalArgumentException("Expected slugs must be greater than 0");
+        }
+        if (expectedSlugs > MAX_SLUGS) {
+            throw new IllegalArgumentException("Expected slugs must be at most " + MAX_SLUGS);
+        }
+
+        // Keep the table at most half full
+        long slugs = Math.max(expectedSlugs, 8);
+        int capacity = (int) (Long.highestOneBit(slugs * 2 - 1) << 1);
+        this.slots = ByteBuffer.allocateDirect(Math.multiplyExact(capacity, SLOT_BYTES));
+        this.arena = ByteBuffer.allocateDirect((int) (slugs * 16));
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public boolean contains(CharSequence slug) {
+        if (slug == null || !isAscii(slug)) {
+            return false;
+        }
+        int hash = hash(slug);
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                boolean found = findSlot(slug, hash) < 0;
+                if (lock.validate(stamp)) {
+                    return found;
+                }
+            } catch (IndexOutOfBoundsException e) {
+                // A concurrent add replaced the buffers mid-lookup; look again under the lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return findSlot(slug, hash) < 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(CharSequence slug) {
+        checkStorable(slug);
+
+        int hash = hash(slug);
+        long stamp = lock.writeLock();
+        try {
+            int slot = findSlot(slug, hash);
+            if (slot < 0) {
+                return false;
+            }
+            if (size == MAX_SLUGS) {
+                throw new IllegalStateException("Slug set is full");
+            }
+
+            int offset = append(slug);
+            slots.putInt(slot * SLOT_BYTES, hash);
+            slots.putInt(slot * SLOT_BYTES + 4, offset + 1);
+            size++;
+
+            if (size * 2 > mask + 1) {
+                rehash();
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int result = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of off-heap bytes currently reserved by this set.
+     *
+     * @return reserved bytes for the hash table and the slug arena
+     */
+    public long reservedBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) slots.capacity() + arena.capacity();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Finds the slot holding the slug, or the empty slot where it would go.
+     * Also runs without the lock, so it reads the table fields once. No table is ever more
+     * than half full, so the probe ends even on a table that is being rebuilt.
+     *
+     * @return -1 - slot if the slug was found, otherwise the free slot
+     */
+    private int findSlot(CharSequence slug, int hash) {
+        ByteBuffer table = slots;
+        int tableMask = mask;
+        int slot = hash & tableMask;
+        while (true) {
+            int offset = table.getInt(slot * SLOT_BYTES + 4);
+            if (offset == 0) {
+                return slot;
+            }
+            if (table.getInt(slot * SLOT_BYTES) == hash && matches(offset - 1, slug)) {
+                return -1 - slot;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+    }
+
+    /**
+     * Compares the stored bytes at the given arena offset with the slug.
+     */
+    private boolean matches(int offset, CharSequence slug) {
+        ByteBuffer bytes = arena;
+        int length = bytes.getShort(offset) & 0xFFFF;
+        if (length != slug.length()) {
+            return false;
+        }
+        int base = offset + LENGTH_BYTES;
+        for (int i = 0; i < length; i++) {
+            if (bytes.get(base + i) != (byte) slug.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the slug to the arena as a length-prefixed byte string.
+     */
+    private int append(CharSequence slug) {
+        int length = slug.length();
+        int needed = LENGTH_BYTES + length;
+        if (arena.remaining() < needed) {
+            long grown = Math.max((long) arena.capacity() * 2, (long) arena.position() + needed);
+            if (grown > Integer.MAX_VALUE - 1) {
+                throw new IllegalStateException("Slug set is full");
+            }
+            ByteBuffer bigger = ByteBuffer.allocateDirect((int) grown);
+            arena.flip();
+            bigger.put(arena);
+            arena = bigger;
+        }
+
+        int offset = arena.position();
+        arena.putShort((short) length);
+        for (int i = 0; i < length; i++) {
+            arena.put((byte) slug.charAt(i));
+        }
+        return offset;
+    }
+
+    /**
+     * Doubles the hash table. Slugs stay where they are in the arena.
+     */
+    private void rehash() {
+        ByteBuffer old = slots;
+        int oldCapacity = mask + 1;
+        int capacity = oldCapacity * 2;
+
+        slots = ByteBuffer.allocateDirect(Math.multiplyExact(capacity, SLOT_BYTES));
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldCapacity; i++) {
+            int offset = old.getInt(i * SLOT_BYTES + 4);
+            if (offset != 0) {
+                int hash = old.getInt(i * SLOT_BYTES);
+                int slot = hash & mask;
+                while (slots.getInt(slot * SLOT_BYTES + 4) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots.putInt(slot * SLOT_BYTES, hash);
+                slots.putInt(slot * SLOT_BYTES + 4, offset);
+            }
+        }
+    }
+
+    /**
+     * FNV-1a over the characters, with a final mix so sequential slugs spread well.
+     */
+    static int hash(CharSequence slug) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < slug.length(); i++) {
+            h ^= slug.charAt(i);
+            h *= 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Rejects slugs that cannot be stored as packed ASCII bytes.
+     */
+    static void checkStorable(CharSequence slug) {
+        if (slug == null) {
+            throw new IllegalArgumentException("Slug must not be null");
+        }
+        if (slug.length() > MAX_SLUG_LENGTH || !isAscii(slug)) {
+            throw new IllegalArgumentException("Slug must be ASCII and at most " + MAX_SLUG_LENGTH + " characters");
+        }
+    }
+
+    private static boolean isAscii(CharSequence slug) {
+        for (int i = 0; i < slug.length(); i++) {
+            if (slug.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package com.bloggifyutils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maps a stream of items in parallel, batch by batch, and hands the results to a
+ * sequential consumer in input order. The next batch is derived while the current
+ * one is consumed; at most two batches are held in memory.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class OrderedBatches {
+
+    /**
+     * Consumer of results that may fail with an I/O error.
+     */
+    interface Sink<R> {
+        void accept(R result) throws IOException;
+    }
+
+    private OrderedBatches() {
+    }
+
+    static <T, R> void run(Iterator<T> source, int batchSize, Function<T, R> derive, Sink<R> sink)
+            throws IOException {
+        CompletableFuture<List<R>> pending = deriveAsync(nextBatch(source, batchSize), derive);
+
+        while (pending != null) {
+            List<R> results;
+            try {
+                results = pending.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+
+            List<T> next = nextBatch(source, batchSize);
+            pending = next.isEmpty() ? null : deriveAsync(next, derive);
+
+            for (R result : results) {
+                sink.accept(result);
+            }
+        }
+    }
+
+    private static <T> List<T> nextBatch(Iterator<T> source, int batchSize) {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && source.hasNext()) {
+            batch.add(source.next());
+        }
+        return batch;
+    }
+
+    private static <T, R> CompletableFuture<List<R>> deriveAsync(List<T> batch, Function<T, R> derive) {
+        return CompletableFuture.supplyAsync(() -> batch.parallelStream().map(derive).collect(Collectors.toList()));
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bloggifyutils;
+
+import java.time.LocalDate;
+
+/**
+ * A blog post as input to the batch tools, such as the sitemap and feed writers.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class Post {
+
+    private final String id;
+    private final String title;
+    private final String content;
+    private final LocalDate publishedDate;
+
+    /**
+     * Creates a post.
+     *
+     * @param id unique post identifier
+     * @param title the blog post title
+     * @param content the blog post content, HTML or plain text
+     * @param publishedDate the publication date
+     */
+    public Post(String id, String title, String content, LocalDate publishedDate) {
+        if (id == null || publishedDate == null) {
+            throw new IllegalArgumentException("Post ID and published date must not be null");
+        }
+        this.id = id;
+        this.title = title != null ? title : "";
+        this.content = content != null ? content : "";
+        this.publishedDate = publishedDate;
+    }
+
+    /**
+     * Returns the unique post identifier.
+     *
+     * @return the post ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the blog post title.
+     *
+     * @return the title, empty if none was given
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the blog post content, HTML or plain text.
+     *
+     * @return the content, empty if none was given
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the publication date.
+     *
+     * @return the publication date
+     */
+    public LocalDate getPublishedDate() {
+        return publishedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "Post " + id + ": " + title;
+    }
+}
@@ -0,0 +1,112 @@
+package com.bloggifyutils;
+
+import java.time.LocalDate;
+
+/**
+ * Derived data of a blog post: dated slug, excerpt and reading time.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class PostMetadata {
+
+    private final String postId;
+    private final String title;
+    private final String slug;
+    private final String excerpt;
+    private final String readingTimeText;
+    private final LocalDate publishedDate;
+
+    /**
+     * Creates post metadata from already derived values.
+     *
+     * @param postId the ID of the post the metadata belongs to
+     * @param title the blog post title
+     * @param slug the dated slug
+     * @param excerpt the excerpt
+     * @param readingTimeText the formatted reading time
+     * @param publishedDate the publication date
+     */
+    public PostMetadata(String postId, String title, String slug, String excerpt,
+                        String readingTimeText, LocalDate publishedDate) {
+        this.postId = postId;
+        this.title = title;
+        this.slug = slug;
+        this.excerpt = excerpt;
+        this.readingTimeText = readingTimeText;
+        this.publishedDate = publishedDate;
+    }
+
+    /**
+     * Derives the metadata of a post with the default settings of each utility.
+     *
+     * @param post the blog post
+     * @return the post's metadata
+     */
+    public static PostMetadata of(Post post) {
+        LocalDate date = post.getPublishedDate();
+        String slug = SlugGenerator.generateDatedSlug(post.getTitle(), date);
+        String excerpt = ExcerptGenerator.generateExcerpt(post.getContent());
+        String readingTime = ReadingTimeCalculator.getReadingTimeText(post.getContent());
+        return new PostMetadata(post.getId(), post.getTitle(), slug, excerpt, readingTime, date);
+    }
+
+    /**
+     * Returns the ID of the post the metadata belongs to.
+     *
+     * @return the post ID
+     */
+    public String getPostId() {
+        return postId;
+    }
+
+    /**
+     * Returns the blog post title.
+     *
+     * @return the title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the dated slug, e.g. "2024-10-22-my-blog-post".
+     *
+     * @return the dated slug
+     */
+    public String getSlug() {
+        return slug;
+    }
+
+    /**
+     * Returns the excerpt of the post content.
+     *
+     * @return the excerpt
+     */
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    /**
+     * Returns the formatted reading time, e.g. "5 min read".
+     *
+     * @return the formatted reading time
+     */
+    public String getReadingTimeText() {
+        return readingTimeText;
+    }
+
+    /**
+     * Returns the publication date.
+     *
+     * @return the publication date
+     */
+    public LocalDate getPublishedDate() {
+        return publishedDate;
+    }
+
+    @Override
+    public String toString() {
+        return slug + " (" + readingTimeText + ")";
+    }
+}
@@ -4,6 +4,9 @@ package com.bloggifyutils;
  * Calculates estimated reading time for blog posts and articles.
  * Uses industry-standard reading speeds and provides flexible output formats.
  *
+ * All methods are stateless and thread-safe. Very large posts are counted in
+ * parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+ *
  * @author BloggifyUtils Team
  * @version 1.0.0
  */
@@ -31,6 +34,31 @@ public class ReadingTimeCalculator {
      * @return estimated reading time in minutes
      */
     public static int calculateReadingTime(String content, int wordsPerMinute) {
+        return calculateReadingTime(content, wordsPerMinute, InputFormat.HTML);
+    }
+
+    /**
+     * Calculates reading time in minutes of content in the given format,
+     * using default reading speed (200 WPM).
+     *
+     * @param content the blog post content
+     * @param format the markup the content is written in
+     * @return estimated reading time in minutes
+     */
+    public static int calculateReadingTime(String content, InputFormat format) {
+        return calculateReadingTime(content, DEFAULT_WORDS_PER_MINUTE, format);
+    }
+
+    /**
+     * Calculates reading time in minutes of content in the given format,
+     * using custom words per minute.
+     *
+     * @param content the blog post content
+     * @param wordsPerMinute the reading speed in words per minute
+     * @param format the markup the content is written in
+     * @return estimated reading time in minutes
+     */
+    public static int calculateReadingTime(String content, int wordsPerMinute, InputFormat format) {
         if (content == null || content.trim().isEmpty()) {
             return 0;
         }
@@ -39,7 +67,13 @@ public class ReadingTimeCalculator {
             throw new IllegalArgumentException("Words per minute must be greater than 0");
         }
 
-        int wordCount = countWords(content);
+        return toMinutes(countWords(content, format), wordsPerMinute);
+    }
+
+    /**
+     * Converts a word count of non-empty content to whole minutes, rounding up.
+     */
+    static int toMinutes(int wordCount, int wordsPerMinute) {
         int minutes = (int) Math.ceil((double) wordCount / wordsPerMinute);
         return Math.max(1, minutes); // Minimum 1 minute
     }
@@ -55,6 +89,18 @@ public class ReadingTimeCalculator {
         return minutes + " min read";
     }
 
+    /**
+     * Returns a formatted reading time string for content in the given format.
+     *
+     * @param content the blog post content
+     * @param format the markup the content is written in
+     * @return formatted reading time string
+     */
+    public static String getReadingTimeText(String content, InputFormat format) {
+        int minutes = calculateReadingTime(content, format);
+        return minutes + " min read";
+    }
+
     /**
      * Returns a detailed reading time string with word count
      * (e.g., "5 min read (1000 words)").
@@ -88,6 +134,7 @@ public class ReadingTimeCalculator {
 
     /**
      * Counts the number of words in the content.
+     * HTML tags are skipped. Documents of several megabytes are counted in parallel.
      *
      * @param content the text to count words in
      * @return number of words
@@ -97,12 +144,29 @@ public class ReadingTimeCalculator {
             return 0;
         }
 
-        // Remove HTML tags if present
-        String cleanContent = content.replaceAll("<[^>]*>", " ");
+        return WordCounter.countWords(content);
+    }
+
+    /**
+     * Counts the number of words in content written in the given format.
+     * For Markdown, syntax characters, fenced code blocks and link URLs are not counted.
+     *
+     * @param content the text to count words in
+     * @param format the markup the content is written in
+     * @return number of words
+     */
+    public static int countWords(String content, InputFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("Input format must not be null");
+        }
+        if (format == InputFormat.HTML) {
+            return countWords(content);
+        }
+        if (content == null || content.trim().isEmpty()) {
+            return 0;
+        }
 
-        // Split by whitespace and count non-empty words
-        String[] words = cleanContent.trim().split("\\s+");
-        return words.length;
+        return MarkdownScanner.countWords(content);
     }
 
     /**
@@ -0,0 +1,270 @@
+package com.bloggifyutils;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams an XML sitemap for any number of posts with constant memory.
+ * Post URLs are built from {@link SlugGenerator#generateDatedSlug}, derived in parallel
+ * batches while the XML is written in input order. Output is split into a new sitemap
+ * file whenever one reaches the protocol limit of 50,000 URLs or 50 MB.
+ *
+ * Example:
+ * <pre>
+ * SitemapWriter writer = SitemapWriter.builder("https://blog.example.com/").gzip(true).build();
+ * int files = writer.write(posts.iterator(),
+ *         part -&gt; FileChannel.open(dir.resolve("sitemap-" + part + ".xml.gz"), CREATE, WRITE));
+ * </pre>
+ *
+ * Writers are immutable and thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class SitemapWriter {
+
+    /** Maximum number of URLs in one sitemap file. */
+    public static final int MAX_URLS_PER_FILE = 50_000;
+
+    /** Maximum uncompressed size of one sitemap file. */
+    public static final long MAX_BYTES_PER_FILE = 50L * 1024 * 1024;
+
+    private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n";
+    private static final String FOOTER = "</urlset>\n";
+
+    private final String escapedBaseUrl;
+    private final int maxUrlsPerFile;
+    private final boolean gzip;
+    private final int batchSize;
+
+    private SitemapWriter(Builder builder) {
+        this.escapedBaseUrl = escape(builder.baseUrl);
+        this.maxUrlsPerFile = builder.maxUrlsPerFile;
+        this.gzip = builder.gzip;
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * Creates a builder for sitemaps of a site.
+     *
+     * @param baseUrl URL the post slugs are appended to, e.g. "https://blog.example.com/"
+     * @return a new builder
+     */
+    public static Builder builder(String baseUrl) {
+        return new Builder(baseUrl);
+    }
+
+    /**
+     * Opens the channel for each sitemap file.
+     */
+    public interface PartChannels {
+        /**
+         * Opens the channel for a sitemap file. The writer closes it when the file is complete.
+         *
+         * @param part index of the file, starting at 1
+         * @return the channel to write the file to
+         * @throws IOException if the channel cannot be opened
+         */
+        WritableByteChannel open(int part) throws IOException;
+    }
+
+    /**
+     * Writes the sitemap files for the posts.
+     *
+     * @param posts the posts, read once
+     * @param parts opens the channel of each sitemap file
+     * @return the number of sitemap files written
+     * @throws IOException if writing fails
+     */
+    public int write(Iterator<Post> posts, PartChannels parts) throws IOException {
+        Parts state = new Parts(parts);
+        try {
+            OrderedBatches.run(posts, batchSize, this::entry, state::add);
+        } catch (IOException | RuntimeException | Error e) {
+            state.abort(e);
+            throw e;
+        }
+        state.close();
+        return state.part;
+    }
+
+    /**
+     * Writes a sitemap index that lists sitemap files. The channel is left open.
+     *
+     * @param channel where to write the index
+     * @param sitemapUrls URLs of the sitemap files
+     * @param gzip true to gzip the index
+     * @throws IOException if writing fails
+     */
+    public static void writeIndex(WritableByteChannel channel, List<String> sitemapUrls, boolean gzip)
+            throws IOException {
+        try (XmlOutput out = new XmlOutput(channel, gzip, false)) {
+            out.raw("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                    .raw("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+            for (String url : sitemapUrls) {
+                out.raw("  <sitemap><loc>").text(url).raw("</loc></sitemap>\n");
+            }
+            out.raw("</sitemapindex>\n");
+        }
+    }
+
+    /**
+     * Builds the {@code <url>} element of a post. Dated slugs need no escaping.
+     */
+    private String entry(Post post) {
+        LocalDate date = post.getPublishedDate();
+        String slug = SlugGenerator.generateDatedSlug(post.getTitle(), date);
+        return "  <url><loc>" + escapedBaseUrl + slug + "</loc><lastmod>" + date + "</lastmod></url>\n";
+    }
+
+    private static String escape(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&': out.append("&amp;"); break;
+                case '<': out.append("&lt;"); break;
+                case '>': out.append("&gt;"); break;
+                case '"': out.append("&quot;"); break;
+                case '\'': out.append("&apos;"); break;
+                default: out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * The sitemap file currently being written.
+     */
+    private final class Parts {
+        private final PartChannels channels;
+        private XmlOutput out;
+        private int urls;
+        int part;
+
+        Parts(PartChannels channels) {
+            this.channels = channels;
+        }
+
+        void add(String entry) throws IOException {
+            if (out != null && (urls >= maxUrlsPerFile
+                    || out.written() + XmlOutput.utf8Length(entry, 0, entry.length()) + FOOTER.length()
+                    > MAX_BYTES_PER_FILE)) {
+                close();
+            }
+            if (out == null) {
+                part++;
+                out = new XmlOutput(channels.open(part), gzip, true);
+                out.raw(HEADER);
+                urls = 0;
+            }
+            out.raw(entry);
+            urls++;
+        }
+
+        /**
+         * Completes the current file.
+         */
+        void close() throws IOException {
+            if (out == null) {
+                return;
+            }
+            XmlOutput current = out;
+            out = null;
+            try {
+                current.raw(FOOTER);
+            } catch (IOException | RuntimeException | Error e) {
+                closeAfter(current, e);
+                throw e;
+            }
+            current.close();
+        }
+
+        /**
+         * Closes the current file without completing it, after {@code failure}.
+         */
+        void abort(Throwable failure) {
+            if (out != null) {
+                closeAfter(out, failure);
+                out = null;
+            }
+        }
+
+        private void closeAfter(XmlOutput output, Throwable failure) {
+            try {
+                output.close();
+            } catch (IOException | RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link SitemapWriter}. Not thread-safe; the built writer is.
+     */
+    public static final class Builder {
+        private final String baseUrl;
+        private int maxUrlsPerFile = MAX_URLS_PER_FILE;
+        private boolean gzip;
+        private int batchSize = 1024;
+
+        private Builder(String baseUrl) {
+            if (baseUrl == null || baseUrl.isEmpty()) {
+                throw new IllegalArgumentException("Base URL must not be empty");
+            }
+            this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        }
+
+        /**
+         * Sets the maximum number of URLs per sitemap file, at most 50,000.
+         *
+         * @param maxUrlsPerFile the maximum number of URLs per file
+         * @return this builder
+         */
+        public Builder maxUrlsPerFile(int maxUrlsPerFile) {
+            this.maxUrlsPerFile = maxUrlsPerFile;
+            return this;
+        }
+
+        /**
+         * Sets whether sitemap files are gzip-compressed.
+         *
+         * @param gzip true to gzip each sitemap file
+         * @return this builder
+         */
+        public Builder gzip(boolean gzip) {
+            this.gzip = gzip;
+            return this;
+        }
+
+        /**
+         * Sets how many posts are derived in parallel at a time.
+         *
+         * @param batchSize the number of posts per batch, greater than 0
+         * @return this builder
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Validates the settings and creates the writer.
+         *
+         * @return the writer
+         */
+        public SitemapWriter build() {
+            if (maxUrlsPerFile <= 0 || maxUrlsPerFile > MAX_URLS_PER_FILE) {
+                throw new IllegalArgumentException("Max URLs per file must be between 1 and " + MAX_URLS_PER_FILE);
+            }
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be greater than 0");
+            }
+            return new SitemapWriter(this);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.bloggifyutils;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded, concurrent two-way cache between titles and slugs.
+ * Meant for taxonomy names (tags, categories) that are converted over and over:
+ * repeated conversions become a hash lookup that returns the same String instance.
+ *
+ * Lookups never lock. Each direction keeps two generations of entries; when the
+ * young generation fills up it becomes the old one and the previous old generation
+ * is dropped, so entries that are still used survive and the cache stays bounded.
+ * The cache is thread-safe; threads that miss on the same key at the same time
+ * may each convert it, and all get an equal result.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class SlugCache {
+
+    private final Generations titleToSlug;
+    private final Generations slugToTitle;
+    private final boolean intern;
+
+    /**
+     * Creates a cache holding about {@code maxEntries} conversions in each direction.
+     *
+     * @param maxEntries maximum number of cached conversions per direction
+     */
+    public SlugCache(int maxEntries) {
+        this(maxEntries, false);
+    }
+
+    /**
+     * Creates a cache, optionally interning cached results.
+     *
+     * @param maxEntries maximum number of cached conversions per direction
+     * @param intern true to intern results, so they are shared with the rest of the JVM
+     */
+    public SlugCache(int maxEntries, boolean intern) {
+        if (maxEntries < 2) {
+            throw new IllegalArgumentException("Max entries must be at least 2");
+        }
+        this.titleToSlug = new Generations(maxEntries / 2);
+        this.slugToTitle = new Generations(maxEntries / 2);
+        this.intern = intern;
+    }
+
+    /**
+     * Returns the slug of a title, like {@link SlugGenerator#generateSlug(String)}.
+     *
+     * @param title the title
+     * @return SEO-friendly slug
+     */
+    public String toSlug(String title) {
+        if (title == null) {
+            return "";
+        }
+
+        String slug = titleToSlug.get(title);
+        if (slug == null) {
+            slug = canonical(SlugGenerator.generateSlug(title));
+            titleToSlug.put(title, slug);
+        }
+        return slug;
+    }
+
+    /**
+     * Returns the title of a slug, like {@link SlugGenerator#slugToTitle(String)}.
+     *
+     * @param slug the slug
+     * @return readable title
+     */
+    public String toTitle(String slug) {
+        if (slug == null) {
+            return "";
+        }
+
+        String title = slugToTitle.get(slug);
+        if (title == null) {
+            title = canonical(SlugGenerator.slugToTitle(slug));
+            slugToTitle.put(slug, title);
+        }
+        return title;
+    }
+
+    /**
+     * Returns the number of cached conversions in both directions.
+     *
+     * @return number of cached entries
+     */
+    public int size() {
+        return titleToSlug.size() + slugToTitle.size();
+    }
+
+    /**
+     * Removes all cached conversions.
+     */
+    public void clear() {
+        titleToSlug.clear();
+        slugToTitle.clear();
+    }
+
+    private String canonical(String value) {
+        return intern ? value.intern() : value;
+    }
+
+    /**
+     * Two generations of a map; the young one is replaced when it reaches its capacity.
+     */
+    private static final class Generations {
+        private final int capacity;
+        private volatile ConcurrentHashMap<String, String> young;
+        private volatile ConcurrentHashMap<String, String> old;
+
+        Generations(int capacity) {
+            this.capacity = capacity;
+            this.young = new ConcurrentHashMap<>();
+            this.old = new ConcurrentHashMap<>();
+        }
+
+        String get(String key) {
+            String value = young.get(key);
+            if (value == null) {
+                value = old.get(key);
+                if (value != null) {
+                    // Still in use: keep it across the next rotation
+                    put(key, value);
+                }
+            }
+            return value;
+        }
+
+        void put(String key, String value) {
+            ConcurrentHashMap<String, String> current = young;
+            current.put(key, value);
+            if (current.size() >= capacity) {
+                rotate(current);
+            }
+        }
+
+        private synchronized void rotate(ConcurrentHashMap<String, String> full) {
+            // Another thread may have rotated already
+            if (young == full) {
+                old = full;
+                young = new ConcurrentHashMap<>();
+            }
+        }
+
+        int size() {
+            return young.size() + old.size();
+        }
+
+        synchronized void clear() {
+            young = new ConcurrentHashMap<>();
+            old = new ConcurrentHashMap<>();
+        }
+    }
+}
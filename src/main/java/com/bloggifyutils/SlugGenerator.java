@@ -1,22 +1,27 @@
 package com.bloggifyutils;
 
 import java.text.Normalizer;
-import java.util.regex.Pattern;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Generates SEO-friendly URL slugs from blog post titles.
  * Handles special characters, accents, and provides clean, readable URLs.
  *
+ * All methods are stateless and thread-safe. The unique-slug methods that take a
+ * {@link SlugIndex} are as safe as the index: the indexes in this library reserve
+ * slugs atomically, so concurrent callers never get the same slug.
+ *
  * @author BloggifyUtils Team
  * @version 1.0.0
  */
 public class SlugGenerator {
 
-    private static final Pattern NON_LATIN = Pattern.compile("[^\\w-]");
-    private static final Pattern WHITESPACE = Pattern.compile("[\\s]+");
-    private static final Pattern EDGES_DASHES = Pattern.compile("(^-|-$)");
-    private static final Pattern MULTIPLE_DASHES = Pattern.compile("-{2,}");
-
     /**
      * Generates a URL-friendly slug from a title.
      * Example: "Hello World! 2024" -> "hello-world-2024"
@@ -29,29 +34,32 @@ public class SlugGenerator {
             return "";
         }
 
-        // Convert to lowercase
-        String slug = title.toLowerCase();
-
-        // Normalize to remove accents (é -> e, ñ -> n)
-        slug = Normalizer.normalize(slug, Normalizer.Form.NFD);
-        slug = slug.replaceAll("\\p{M}", "");
-
-        // Replace underscores with hyphens
-        slug = slug.replace("_", "-");
-
-        // Replace all non-alphanumeric characters (except spaces and hyphens) with spaces
-        slug = slug.replaceAll("[^a-z0-9\\s-]", " ");
+        // ASCII titles need no Unicode normalization, so Normalizer is only loaded for the others
+        String text = isAscii(title) ? title : Accents.decompose(title);
 
-        // Replace spaces with hyphens
-        slug = WHITESPACE.matcher(slug).replaceAll("-");
-
-        // Replace multiple consecutive hyphens with single hyphen
-        slug = MULTIPLE_DASHES.matcher(slug).replaceAll("-");
-
-        // Remove hyphens from start and end
-        slug = EDGES_DASHES.matcher(slug).replaceAll("");
+        // Keep runs of letters and digits, joined by single hyphens
+        StringBuilder slug = new StringBuilder(text.length());
+        boolean separator = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (separator && slug.length() > 0) {
+                    slug.append('-');
+                }
+                separator = false;
+                slug.append(c);
+            } else if (c >= 0x80 && isMark(text.codePointAt(i))) {
+                // Accents left over by decomposition (é -> e + ´) do not split words
+                i += Character.charCount(text.codePointAt(i)) - 1;
+            } else {
+                separator = true;
+            }
+        }
 
-        return slug;
+        return slug.toString();
     }
 
     /**
@@ -106,6 +114,86 @@ public class SlugGenerator {
         return slug;
     }
 
+    /**
+     * Generates a unique slug by appending a number if needed, checking against a slug index.
+     * The returned slug is added to the index, so two callers never receive the same slug.
+     *
+     * @param title the blog post title
+     * @param existingSlugs index of existing slugs to check against
+     * @return unique SEO-friendly slug
+     */
+    public static String generateUniqueSlug(String title, SlugIndex existingSlugs) {
+        String baseSlug = generateSlug(title);
+        if (existingSlugs == null || existingSlugs.add(baseSlug)) {
+            return baseSlug;
+        }
+
+        // Reuse one buffer for the candidates so lookups do not create Strings
+        StringBuilder candidate = new StringBuilder(baseSlug.length() + 4).append(baseSlug);
+        int counter = 1;
+
+        while (true) {
+            candidate.setLength(baseSlug.length());
+            candidate.append('-').append(counter);
+            if (existingSlugs.add(candidate)) {
+                return candidate.toString();
+            }
+            counter++;
+        }
+    }
+
+    /**
+     * Generates unique slugs for a batch of titles in one call.
+     * Titles are slugified in parallel, then collisions are resolved in input order against
+     * the index and against earlier titles of the same batch, so the result is deterministic.
+     * Every returned slug is added to the index.
+     *
+     * @param titles the blog post titles
+     * @param existingSlugs index of existing slugs to check against, or null for none
+     * @return unique slugs in the same order as the titles
+     */
+    public static List<String> generateUniqueSlugs(List<String> titles, SlugIndex existingSlugs) {
+        if (titles == null || titles.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        SlugIndex index = existingSlugs != null ? existingSlugs : new OffHeapSlugSet(titles.size());
+        List<String> baseSlugs = titles.parallelStream()
+                .map(SlugGenerator::generateSlug)
+                .collect(Collectors.toList());
+
+        // Remember the next free suffix per base slug so repeated titles do not rescan from 1
+        Map<String, Integer> nextCounters = new HashMap<>();
+        StringBuilder candidate = new StringBuilder();
+        List<String> result = new ArrayList<>(baseSlugs.size());
+
+        for (String baseSlug : baseSlugs) {
+            Integer next = nextCounters.get(baseSlug);
+            if (next == null) {
+                if (index.add(baseSlug)) {
+                    nextCounters.put(baseSlug, 1);
+                    result.add(baseSlug);
+                    continue;
+                }
+                next = 1;
+            }
+
+            int counter = next;
+            while (true) {
+                candidate.setLength(0);
+                candidate.append(baseSlug).append('-').append(counter);
+                if (index.add(candidate)) {
+                    break;
+                }
+                counter++;
+            }
+            nextCounters.put(baseSlug, counter + 1);
+            result.add(candidate.toString());
+        }
+
+        return result;
+    }
+
     /**
      * Generates a dated slug by prepending date in YYYY-MM-DD format.
      * Example: "2024-10-22-my-blog-post"
@@ -115,10 +203,22 @@ public class SlugGenerator {
      * @param month the month (1-12)
      * @param day the day (1-31)
      * @return dated SEO-friendly slug
+     * @throws IllegalArgumentException if the date does not exist
      */
     public static String generateDatedSlug(String title, int year, int month, int day) {
-        String slug = generateSlug(title);
-        return String.format("%04d-%02d-%02d-%s", year, month, day, slug);
+        return DatedSlugFormat.ISO.format(title, year, month, day);
+    }
+
+    /**
+     * Generates a dated slug by prepending date in YYYY-MM-DD format.
+     * For other layouts, see {@link DatedSlugFormat}.
+     *
+     * @param title the blog post title
+     * @param date the date, e.g. a {@link java.time.LocalDate}
+     * @return dated SEO-friendly slug
+     */
+    public static String generateDatedSlug(String title, TemporalAccessor date) {
+        return DatedSlugFormat.ISO.format(title, date);
     }
 
     /**
@@ -128,13 +228,9 @@ public class SlugGenerator {
      * @return true if valid slug, false otherwise
      */
     public static boolean isValidSlug(String slug) {
-        if (slug == null || slug.isEmpty()) {
-            return false;
-        }
-
         // Valid slug should only contain lowercase letters, numbers, and hyphens
         // Should not start or end with hyphen
-        return slug.matches("^[a-z0-9]+(-[a-z0-9]+)*$");
+        return SlugValidator.isValid(slug);
     }
 
     /**
@@ -149,24 +245,57 @@ public class SlugGenerator {
             return "";
         }
 
-        // Replace hyphens with spaces
-        String title = slug.replace("-", " ");
+        char[] title = slug.toCharArray();
 
-        // Capitalize first letter of each word
-        String[] words = title.split(" ");
-        StringBuilder result = new StringBuilder();
+        // Trailing separators produce no words
+        int end = title.length;
+        while (end > 0 && (title[end - 1] == '-' || title[end - 1] == ' ')) {
+            end--;
+        }
 
-        for (int i = 0; i < words.length; i++) {
-            if (i > 0) {
-                result.append(" ");
+        // Replace hyphens with spaces and capitalize first letter of each word
+        boolean wordStart = true;
+        for (int i = 0; i < end; i++) {
+            char c = title[i];
+            if (c == '-' || c == ' ') {
+                title[i] = ' ';
+                wordStart = true;
+            } else if (wordStart) {
+                title[i] = Character.toUpperCase(c);
+                wordStart = false;
             }
-            if (!words[i].isEmpty()) {
-                result.append(Character.toUpperCase(words[i].charAt(0)))
-                      .append(words[i].substring(1));
+        }
+
+        return new String(title, 0, end);
+    }
+
+    private static boolean isMark(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
             }
         }
+        return true;
+    }
 
-        return result.toString();
+    /**
+     * Accent removal for non-ASCII titles. A separate class so that {@link Normalizer}
+     * is neither loaded nor initialized until a title needs it.
+     */
+    private static final class Accents {
+
+        /**
+         * Lowercases and decomposes accented characters into a base letter and marks (é -> e + ´).
+         */
+        static String decompose(String title) {
+            return Normalizer.normalize(title.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        }
     }
 
     /**
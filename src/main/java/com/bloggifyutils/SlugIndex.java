@@ -0,0 +1,39 @@
+package com.bloggifyutils;
+
+/**
+ * A set of slugs that are already taken.
+ * Used by {@link SlugGenerator#generateUniqueSlug(String, SlugIndex)} to find a free slug
+ * without rebuilding an array of existing slugs on every call.
+ *
+ * Implementations shared between threads must make {@link #add} atomic, so that
+ * only one caller can reserve a given slug.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public interface SlugIndex {
+
+    /**
+     * Checks whether a slug is already taken.
+     *
+     * @param slug the slug to look up
+     * @return true if the slug is in the index
+     */
+    boolean contains(CharSequence slug);
+
+    /**
+     * Adds a slug to the index if it is not already taken.
+     * The check and the insert happen atomically, so this can be used to reserve a slug.
+     *
+     * @param slug the slug to add
+     * @return true if the slug was added, false if it was already taken
+     */
+    boolean add(CharSequence slug);
+
+    /**
+     * Returns the number of slugs in the index.
+     *
+     * @return number of slugs
+     */
+    int size();
+}
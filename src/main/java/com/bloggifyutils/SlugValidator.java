@@ -0,0 +1,143 @@
+package com.bloggifyutils;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Checks whether text is a valid slug: lowercase letters, digits and single hyphens,
+ * not starting or ending with a hyphen. Equivalent to the regex
+ * {@code ^[a-z0-9]+(-[a-z0-9]+)*$}, but a plain character scan that allocates nothing,
+ * so it can run on every incoming request.
+ *
+ * Slugs can be checked as text or as UTF-8 bytes straight from a request buffer.
+ * All methods are stateless and thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class SlugValidator {
+
+    private SlugValidator() {
+    }
+
+    /**
+     * Validates a slug given as text.
+     *
+     * @param slug the text to validate
+     * @return true if valid slug, false otherwise
+     */
+    public static boolean isValid(CharSequence slug) {
+        if (slug == null) {
+            return false;
+        }
+
+        int length = slug.length();
+        if (length == 0) {
+            return false;
+        }
+
+        boolean afterHyphen = true; // no hyphen allowed at the start
+        for (int i = 0; i < length; i++) {
+            char c = slug.charAt(i);
+            if (c == '-') {
+                if (afterHyphen) {
+                    return false;
+                }
+                afterHyphen = true;
+            } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                afterHyphen = false;
+            } else {
+                return false;
+            }
+        }
+        return !afterHyphen;
+    }
+
+    /**
+     * Validates a slug given as UTF-8 bytes. Any non-ASCII byte makes the slug invalid.
+     *
+     * @param utf8 the buffer holding the slug
+     * @param offset index of the first byte of the slug
+     * @param length number of bytes in the slug
+     * @return true if valid slug, false otherwise
+     */
+    public static boolean isValid(byte[] utf8, int offset, int length) {
+        if (utf8 == null || length <= 0) {
+            return false;
+        }
+        if (offset < 0 || offset > utf8.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + utf8.length);
+        }
+
+        boolean afterHyphen = true;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = utf8[i];
+            if (b == '-') {
+                if (afterHyphen) {
+                    return false;
+                }
+                afterHyphen = true;
+            } else if ((b >= 'a' && b <= 'z') || (b >= '0' && b <= '9')) {
+                afterHyphen = false;
+            } else {
+                return false;
+            }
+        }
+        return !afterHyphen;
+    }
+
+    /**
+     * Validates the UTF-8 bytes between the buffer's position and limit.
+     * The buffer's position is not changed.
+     *
+     * @param utf8 the buffer holding the slug
+     * @return true if valid slug, false otherwise
+     */
+    public static boolean isValid(ByteBuffer utf8) {
+        if (utf8 == null || !utf8.hasRemaining()) {
+            return false;
+        }
+
+        boolean afterHyphen = true;
+        int end = utf8.limit();
+        for (int i = utf8.position(); i < end; i++) {
+            byte b = utf8.get(i);
+            if (b == '-') {
+                if (afterHyphen) {
+                    return false;
+                }
+                afterHyphen = true;
+            } else if ((b >= 'a' && b <= 'z') || (b >= '0' && b <= '9')) {
+                afterHyphen = false;
+            } else {
+                return false;
+            }
+        }
+        return !afterHyphen;
+    }
+
+    /**
+     * Validates many slugs at once, e.g. all slugs of a sitemap.
+     *
+     * @param slugs the slugs to validate
+     * @return the indexes of the invalid slugs; empty if all are valid
+     */
+    public static BitSet findInvalid(List<? extends CharSequence> slugs) {
+        BitSet invalid = new BitSet();
+        if (slugs == null) {
+            return invalid;
+        }
+
+        int index = 0;
+        for (CharSequence slug : slugs) {
+            if (!isValid(slug)) {
+                invalid.set(index);
+            }
+            index++;
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,63 @@
+package com.bloggifyutils;
+
+import java.time.LocalDate;
+
+/**
+ * Calls the common entry points of the library once, so that a training run records
+ * the classes they load. Used to build startup archives for short-lived JVMs:
+ *
+ * <pre>
+ * # AppCDS: dump the loaded classes at exit (JDK 13+), then start from the archive
+ * java -XX:ArchiveClassesAtExit=bloggify.jsa -cp bloggify-utils.jar com.bloggifyutils.StartupTraining
+ * java -XX:SharedArchiveFile=bloggify.jsa -cp bloggify-utils.jar:app.jar ...
+ *
+ * # GraalVM: record any extra reachability metadata with the tracing agent
+ * java -agentlib:native-image-agent=config-output-dir=config -cp bloggify-utils.jar com.bloggifyutils.StartupTraining
+ * </pre>
+ *
+ * The archive only applies when the runtime class path starts with the class path used
+ * for training. {@code mvn -Pcds package} writes the archive next to the jar.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public final class StartupTraining {
+
+    private static final String TITLE = "Café au Lait & Breakfast: 10 Tips for 2024";
+    private static final String HTML = "<h1>Introduction</h1><p>Web development has evolved "
+            + "significantly &amp; quickly.</p>\n\n<p>Second paragraph with <a href=\"/x\">a link</a>.</p>";
+    private static final String MARKDOWN = "# Introduction\n\nWeb development has *evolved* "
+            + "[quickly](https://example.com).\n\n```\ncode\n```\n";
+
+    private StartupTraining() {
+    }
+
+    /**
+     * Runs each entry point once.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        LocalDate date = LocalDate.of(2024, 10, 22);
+
+        // Both slug paths: ASCII, and accented titles that need Unicode normalization
+        String slug = SlugGenerator.generateSlug("Hello World 2024");
+        SlugGenerator.generateSlug(TITLE, 60);
+        SlugGenerator.generateDatedSlug(TITLE, date);
+        SlugGenerator.slugToTitle(slug);
+        SlugValidator.isValid(slug);
+        SlugGenerator.generateUniqueSlug(TITLE, new OffHeapSlugSet(16));
+
+        ReadingTimeCalculator.getReadingTimeText(HTML);
+        ReadingTimeCalculator.getReadingTimeText(MARKDOWN, InputFormat.MARKDOWN);
+        ExcerptGenerator.generateExcerpt(HTML);
+        ExcerptGenerator.generateMetaDescription(HTML);
+        ExcerptGenerator.generateExcerptFromFirstParagraph(HTML);
+        ExcerptGenerator.generateExcerpt(MARKDOWN, InputFormat.MARKDOWN);
+        ExcerptPolicy.builder().limit(40).build().apply(HTML);
+
+        ContentAnalyzer.builder().topTerms(5).build().analyze(HTML);
+        ContentFingerprint.of(HTML);
+        PostMetadata.of(new Post("1", TITLE, HTML, date));
+    }
+}
@@ -0,0 +1,84 @@
+package com.bloggifyutils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps a separate off-heap slug set for each tenant blog hosted in the same JVM.
+ * Tenants never see each other's slugs, and a tenant's slugs can be dropped as a whole.
+ *
+ * The store is thread-safe. A tenant's set is created atomically on first use, and each
+ * set locks on its own, so requests for different tenants do not contend.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+public class TenantSlugStore {
+
+    private static final int DEFAULT_SLUGS_PER_TENANT = 256;
+
+    private final ConcurrentMap<String, OffHeapSlugSet> tenants = new ConcurrentHashMap<>();
+    private final int expectedSlugsPerTenant;
+
+    /**
+     * Creates a store that sizes each tenant for about 256 slugs before growing.
+     */
+    public TenantSlugStore() {
+        this(DEFAULT_SLUGS_PER_TENANT);
+    }
+
+    /**
+     * Creates a store with a custom initial size for each tenant.
+     *
+     * @param expectedSlugsPerTenant number of slugs a new tenant can hold without growing
+     */
+    public TenantSlugStore(int expectedSlugsPerTenant) {
+        if (expectedSlugsPerTenant <= 0) {
+            throw new IllegalArgumentException("Expected slugs per tenant must be greater than 0");
+        }
+        this.expectedSlugsPerTenant = expectedSlugsPerTenant;
+    }
+
+    /**
+     * Returns the slug set of a tenant, creating it on first use.
+     *
+     * @param tenantId the tenant identifier
+     * @return the tenant's slug set
+     */
+    public OffHeapSlugSet forTenant(String tenantId) {
+        if (tenantId == null) {
+            throw new IllegalArgumentException("Tenant ID must not be null");
+        }
+        return tenants.computeIfAbsent(tenantId, id -> new OffHeapSlugSet(expectedSlugsPerTenant));
+    }
+
+    /**
+     * Generates a unique slug for a tenant and reserves it in the tenant's set.
+     *
+     * @param tenantId the tenant identifier
+     * @param title the blog post title
+     * @return unique SEO-friendly slug within the tenant
+     */
+    public String generateUniqueSlug(String tenantId, String title) {
+        return SlugGenerator.generateUniqueSlug(title, forTenant(tenantId));
+    }
+
+    /**
+     * Drops all slugs of a tenant.
+     *
+     * @param tenantId the tenant identifier
+     * @return true if the tenant had a slug set
+     */
+    public boolean removeTenant(String tenantId) {
+        return tenantId != null && tenants.remove(tenantId) != null;
+    }
+
+    /**
+     * Returns the number of tenants with a slug set.
+     *
+     * @return number of tenants
+     */
+    public int tenantCount() {
+        return tenants.size();
+    }
+}
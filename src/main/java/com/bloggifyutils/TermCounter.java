@@ -0,0 +1,319 @@
+package com.bloggifyutils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Counts term frequencies in one text without creating a string per term.
+ * Terms are runs of letters and digits, optionally joined by an apostrophe ("don't"),
+ * compared case-insensitively. The table is keyed by character ranges of the text,
+ * using open addressing with primitive {@code int} counts; strings are only created
+ * for the terms returned by {@link #top}.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class TermCounter {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int FNV_OFFSET = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    /** Lowercase form of ASCII letters and digits, 0 for other ASCII characters. */
+    private static final char[] ASCII_TERM_CHARS = new char[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_TERM_CHARS[c] = c;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            ASCII_TERM_CHARS[c] = c;
+            ASCII_TERM_CHARS[c - 'a' + 'A'] = c;
+        }
+    }
+
+    private final String text;
+    private final StopWords stopWords;
+
+    // Slot arrays; a count of 0 marks an empty slot
+    private int[] counts;
+    private int[] hashes;
+    private int[] starts;
+    private int[] lengths;
+    private int mask;
+    private int size;
+
+    TermCounter(String text, StopWords stopWords) {
+        this.text = text;
+        this.stopWords = stopWords;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Counts the terms in a word found by {@link HtmlScanner}. Entities separate terms.
+     */
+    void addTerms(int start, int end) {
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (isTermChar(c)) {
+                // Hash while scanning, so each character is read once
+                int termStart = i;
+                int hash = FNV_OFFSET;
+                while (true) {
+                    hash = (hash ^ toLower(c)) * FNV_PRIME;
+                    if (++i >= end) {
+                        break;
+                    }
+                    c = text.charAt(i);
+                    if (isTermChar(c)) {
+                        continue;
+                    }
+                    if ((c == '\'' || c == '\u2019') && i + 1 < end && isTermChar(text.charAt(i + 1))) {
+                        hash = (hash ^ c) * FNV_PRIME;
+                        c = text.charAt(++i);
+                        continue;
+                    }
+                    break;
+                }
+                add(termStart, i, hash ^ (hash >>> 16));
+            } else if (c == '&') {
+                int entity = HtmlScanner.entityAt(text, i, end);
+                i += entity >= 0 ? HtmlScanner.entityLength(entity) : 1;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct terms counted.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the most frequent terms, most frequent first. Ties go to the term seen first.
+     *
+     * @param n maximum number of terms
+     * @param totalWords word count of the text, for the density of each term
+     */
+    List<ContentAnalysis.Term> top(int n, int totalWords) {
+        // Min-heap of slots: the weakest of the current winners is at the root
+        int[] heap = new int[Math.min(n, size)];
+        int heapSize = 0;
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (counts[slot] == 0) {
+                continue;
+            }
+            if (heapSize < heap.length) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++);
+            } else if (heapSize > 0 && ranksBefore(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        ContentAnalysis.Term[] terms = new ContentAnalysis.Term[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            int slot = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i);
+            double density = totalWords > 0 ? (double) counts[slot] / totalWords : 0;
+            terms[i] = new ContentAnalysis.Term(termString(slot), counts[slot], density);
+        }
+
+        List<ContentAnalysis.Term> result = new ArrayList<>(heapSize);
+        for (ContentAnalysis.Term term : terms) {
+            result.add(term);
+        }
+        return result;
+    }
+
+    private void add(int start, int end, int hash) {
+        if (stopWords.contains(text, start, end, hash)) {
+            return;
+        }
+
+        int length = end - start;
+        int slot = hash & mask;
+        while (counts[slot] != 0) {
+            if (hashes[slot] == hash && lengths[slot] == length
+                    && regionEquals(text, starts[slot], text, start, length)) {
+                counts[slot]++;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        counts[slot] = 1;
+        hashes[slot] = hash;
+        starts[slot] = start;
+        lengths[slot] = length;
+        if (++size > counts.length >> 1) {
+            rehash();
+        }
+    }
+
+    private boolean ranksBefore(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return counts[a] > counts[b];
+        }
+        return starts[a] < starts[b];
+    }
+
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (!ranksBefore(heap[parent], heap[i])) {
+                break;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int i = 0;
+        while (true) {
+            int weakest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < heapSize && ranksBefore(heap[weakest], heap[left])) {
+                weakest = left;
+            }
+            if (right < heapSize && ranksBefore(heap[weakest], heap[right])) {
+                weakest = right;
+            }
+            if (weakest == i) {
+                return;
+            }
+            swap(heap, i, weakest);
+            i = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    private String termString(int slot) {
+        char[] chars = new char[lengths[slot]];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = toLower(text.charAt(starts[slot] + i));
+        }
+        return new String(chars);
+    }
+
+    private void allocate(int capacity) {
+        counts = new int[capacity];
+        hashes = new int[capacity];
+        starts = new int[capacity];
+        lengths = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash() {
+        int[] oldCounts = counts;
+        int[] oldHashes = hashes;
+        int[] oldStarts = starts;
+        int[] oldLengths = lengths;
+        allocate(oldCounts.length << 1);
+
+        for (int i = 0; i < oldCounts.length; i++) {
+            if (oldCounts[i] != 0) {
+                int slot = oldHashes[i] & mask;
+                while (counts[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                counts[slot] = oldCounts[i];
+                hashes[slot] = oldHashes[i];
+                starts[slot] = oldStarts[i];
+                lengths[slot] = oldLengths[i];
+            }
+        }
+    }
+
+    /**
+     * FNV-1a over the lowercased characters, with the high bits folded in for small tables.
+     */
+    static int hash(CharSequence text, int start, int end) {
+        int hash = FNV_OFFSET;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ toLower(text.charAt(i))) * FNV_PRIME;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean isTermChar(char c) {
+        return c < 128 ? ASCII_TERM_CHARS[c] != 0 : Character.isLetterOrDigit(c);
+    }
+
+    private static char toLower(char c) {
+        return c < 128 ? (ASCII_TERM_CHARS[c] != 0 ? ASCII_TERM_CHARS[c] : c) : Character.toLowerCase(c);
+    }
+
+    private static boolean regionEquals(CharSequence a, int aStart, CharSequence b, int bStart, int length) {
+        for (int i = 0; i < length; i++) {
+            char x = a.charAt(aStart + i);
+            char y = b.charAt(bStart + i);
+            if (x != y && toLower(x) != toLower(y)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Immutable set of terms to leave out, looked up by character range.
+     */
+    static final class StopWords {
+
+        static final StopWords NONE = new StopWords(new ArrayList<>());
+
+        private final String[] keys;
+        private final int[] keyHashes;
+        private final int mask;
+
+        StopWords(Collection<String> words) {
+            int capacity = Integer.highestOneBit(Math.max(words.size(), 4) * 4 - 1) << 1;
+            keys = new String[capacity];
+            keyHashes = new int[capacity];
+            mask = capacity - 1;
+
+            for (String word : words) {
+                if (word == null || word.isEmpty()) {
+                    continue;
+                }
+                int hash = hash(word, 0, word.length());
+                int slot = hash & mask;
+                while (keys[slot] != null && !(keyHashes[slot] == hash && keys[slot].length() == word.length()
+                        && regionEquals(keys[slot], 0, word, 0, word.length()))) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = word;
+                keyHashes[slot] = hash;
+            }
+        }
+
+        boolean contains(CharSequence text, int start, int end, int hash) {
+            int length = end - start;
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (keyHashes[slot] == hash && keys[slot].length() == length
+                        && regionEquals(keys[slot], 0, text, start, length)) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.bloggifyutils;
+
+/**
+ * Streaming 128-bit MurmurHash3 (x64 variant, seed 0) over the UTF-16 code units of a text,
+ * taken as little-endian bytes. Characters can be fed one at a time, so the normalized text
+ * of a post is hashed while it is scanned, without building it as a string.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class TextHasher {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1;
+    private long h2;
+    private long k1;
+    private long k2;
+    /** Characters in the current 16-byte block. */
+    private int pending;
+    private long length;
+
+    /** Whether a space goes before the next visible character. */
+    private boolean separate;
+
+    /**
+     * Appends one character.
+     */
+    void append(char c) {
+        if (pending < 4) {
+            k1 |= (long) c << (pending << 4);
+        } else {
+            k2 |= (long) c << ((pending - 4) << 4);
+        }
+        length++;
+        if (++pending == 8) {
+            mixBlock();
+        }
+    }
+
+    /**
+     * Appends the characters from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    void append(CharSequence text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            append(text.charAt(i));
+        }
+    }
+
+    /**
+     * Appends a word found by {@link HtmlScanner}, normalized like {@link HtmlScanner#strip}
+     * with collapsed whitespace: entities are decoded, and words are joined by one space.
+     */
+    void appendWord(String text, int start, int end) {
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '&') {
+                int entity = HtmlScanner.entityAt(text, i, end);
+                if (entity >= 0) {
+                    c = HtmlScanner.decodedEntity(entity);
+                    i += HtmlScanner.entityLength(entity);
+                    if (c == ' ') {
+                        separate = true;
+                    } else {
+                        appendVisible(c);
+                    }
+                    continue;
+                }
+            }
+            appendVisible(c);
+            i++;
+        }
+        separate = true;
+    }
+
+    private void appendVisible(char c) {
+        if (separate) {
+            if (length > 0) {
+                append(' ');
+            }
+            separate = false;
+        }
+        append(c);
+    }
+
+    /**
+     * Finishes the hash. The hasher must not be used afterwards.
+     */
+    ContentFingerprint finish() {
+        if (pending > 4) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+        }
+        if (pending > 0) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+        }
+
+        long bytes = length << 1;
+        h1 ^= bytes;
+        h2 ^= bytes;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new ContentFingerprint(h1, h2);
+    }
+
+    private void mixBlock() {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+
+        k1 = 0;
+        k2 = 0;
+        pending = 0;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
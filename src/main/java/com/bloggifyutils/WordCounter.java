@@ -0,0 +1,85 @@
+package com.bloggifyutils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts words in HTML or plain text, in parallel for very large documents.
+ * Documents above {@link #PARALLEL_THRESHOLD} characters are split into chunks
+ * at positions outside tags and counted on the common fork-join pool; a word cut
+ * by a chunk boundary is counted once when the chunk results are joined.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class WordCounter {
+
+    /** Documents with at least this many characters are counted in parallel. */
+    static final int PARALLEL_THRESHOLD = 1 << 19;
+
+    /** Chunks of at most this many characters are counted by a single task. */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private WordCounter() {
+    }
+
+    /**
+     * Counts the words in the text, treating tags as separators.
+     */
+    static int countWords(String text) {
+        if (text.length() < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            HtmlScanner scanner = new HtmlScanner();
+            scanner.scan(text);
+            return scanner.words;
+        }
+        return ForkJoinPool.commonPool().invoke(new CountTask(text, 0, text.length())).words;
+    }
+
+    /**
+     * Counts one range, splitting it in two while it is larger than a chunk.
+     */
+    static final class CountTask extends RecursiveTask<HtmlScanner> {
+        private static final long serialVersionUID = 1L;
+
+        private final String text;
+        private final int from;
+        private final int to;
+
+        CountTask(String text, int from, int to) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected HtmlScanner compute() {
+            int split = to - from > CHUNK_SIZE
+                    ? HtmlScanner.safeSplit(text, from, from + (to - from) / 2, to)
+                    : -1;
+
+            if (split <= from) {
+                HtmlScanner scanner = new HtmlScanner();
+                scanner.scan(text, from, to);
+                return scanner;
+            }
+
+            CountTask left = new CountTask(text, from, split);
+            left.fork();
+            HtmlScanner right = new CountTask(text, split, to).compute();
+            return join(left.join(), right);
+        }
+
+        /**
+         * Joins the counts of two neighbouring ranges into the left result.
+         */
+        private static HtmlScanner join(HtmlScanner left, HtmlScanner right) {
+            left.words += right.words;
+            if (left.endsInWord && right.startsInWord) {
+                // The same word was counted on both sides of the split
+                left.words--;
+            }
+            left.endsInWord = right.endsInWord;
+            return left;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.bloggifyutils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Buffered UTF-8 XML output to a channel, optionally gzip-compressed on the fly.
+ * Keeps count of the UTF-8 bytes written so callers can split large documents.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class XmlOutput implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private long written;
+
+    /**
+     * Opens output to a channel.
+     *
+     * @param closeChannel false to leave the channel open when this output is closed
+     */
+    XmlOutput(WritableByteChannel channel, boolean gzip, boolean closeChannel) throws IOException {
+        OutputStream out = Channels.newOutputStream(channel);
+        if (!closeChannel) {
+            out = new FilterOutputStream(out) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    this.out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        }
+        if (gzip) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes markup as is.
+     */
+    XmlOutput raw(String markup) throws IOException {
+        writer.write(markup);
+        written += utf8Length(markup, 0, markup.length());
+        return this;
+    }
+
+    /**
+     * Writes text with XML special characters escaped. Characters not allowed in XML are dropped.
+     */
+    XmlOutput text(String text) throws IOException {
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            String replacement;
+            switch (c) {
+                case '&': replacement = "&amp;"; break;
+                case '<': replacement = "&lt;"; break;
+                case '>': replacement = "&gt;"; break;
+                case '"': replacement = "&quot;"; break;
+                case '\'': replacement = "&apos;"; break;
+                default:
+                    replacement = c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? "" : null;
+            }
+            if (replacement != null) {
+                writer.write(text, start, i - start);
+                writer.write(replacement);
+                written += utf8Length(text, start, i) + replacement.length();
+                start = i + 1;
+            }
+        }
+        writer.write(text, start, length - start);
+        written += utf8Length(text, start, length);
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written so far, before compression.
+     */
+    long written() {
+        return written;
+    }
+
+    /**
+     * Returns the number of bytes {@code text[from, to)} takes in UTF-8. A surrogate
+     * without its other half is encoded as '?', like the writer does.
+     */
+    static long utf8Length(CharSequence text, int from, int to) {
+        long bytes = to - from;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // Four bytes for the pair
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
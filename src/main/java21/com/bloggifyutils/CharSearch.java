@@ -0,0 +1,22 @@
+package com.bloggifyutils;
+
+/**
+ * Bounded character search used by the tokenizer, Java 21 version.
+ * {@code String.indexOf(int, int, int)} stops at the end of the range, so a chunk
+ * of a large document never searches past its own end.
+ *
+ * @author BloggifyUtils Team
+ * @version 1.0.0
+ */
+final class CharSearch {
+
+    private CharSearch() {
+    }
+
+    /**
+     * Returns the index of the first {@code c} in {@code [from, to)}, or -1 if there is none.
+     */
+    static int indexOf(String text, char c, int from, int to) {
+        return text.indexOf(c, from, to);
+    }
+}
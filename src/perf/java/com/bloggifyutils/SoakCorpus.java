@@ -0,0 +1,74 @@
+package com.bloggifyutils;
+
+import java.util.Random;
+
+/**
+ * A fixed pool of synthetic posts for the soak test. Sizes vary from short notes to
+ * long articles, and some titles need accent removal. The same seed always gives the same pool.
+ */
+final class SoakCorpus {
+
+    private static final String[] WORDS = {
+        "java", "performance", "blog", "post", "reading", "time", "excerpt", "slug",
+        "the", "a", "of", "and", "developer", "framework", "café", "naïve",
+        "guide", "tips", "2024", "web", "garbage", "collector", "latency", "Ünïcödé"
+    };
+
+    private final String[] titles;
+    private final String[] contents;
+
+    SoakCorpus(int posts, long seed) {
+        Random random = new Random(seed);
+        titles = new String[posts];
+        contents = new String[posts];
+        for (int i = 0; i < posts; i++) {
+            titles[i] = sentence(random, 3 + random.nextInt(8)) + (random.nextBoolean() ? "!" : "");
+            // Mostly short posts with a long tail, from about 100 to 6000 words
+            int words = 100 + (int) (Math.abs(random.nextGaussian()) * 1500) % 6000;
+            contents[i] = html(random, words);
+        }
+    }
+
+    int size() {
+        return titles.length;
+    }
+
+    String title(int post) {
+        return titles[post];
+    }
+
+    String content(int post) {
+        return contents[post];
+    }
+
+    private static String html(Random random, int words) {
+        StringBuilder html = new StringBuilder(words * 8);
+        int written = 0;
+        while (written < words) {
+            if (random.nextInt(8) == 0) {
+                html.append("<h2>").append(sentence(random, 4)).append("</h2>\n");
+            }
+            int length = 20 + random.nextInt(60);
+            html.append("<p>");
+            if (random.nextInt(3) == 0) {
+                html.append("<a href=\"https://example.com/").append(WORDS[random.nextInt(WORDS.length)])
+                        .append("\">").append(sentence(random, 3)).append("</a> ");
+            }
+            html.append(sentence(random, length)).append(random.nextInt(5) == 0 ? " &amp; more." : ".");
+            html.append("</p>\n");
+            written += length;
+        }
+        return html.toString();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,464 @@
+package com.bloggifyutils;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Soak test: drives {@link SlugGenerator}, {@link ExcerptGenerator} and
+ * {@link ReadingTimeCalculator} over a synthetic corpus at a fixed rate for a long time,
+ * then compares throughput, latency percentiles, allocation and heap growth with a
+ * stored baseline. Exits with status 1 if a metric regressed beyond the threshold.
+ * The baseline records the host and load it was measured with; when those differ, the
+ * numbers are not comparable. A missing or non-matching baseline then exits with status 1
+ * too, unless requireBaseline is false, so a gate that cannot compare does not pass.
+ *
+ * Latency is measured from when each operation was scheduled, not when it started,
+ * so a stall also counts against the operations queued behind it. Allocation and GC
+ * figures come from a JFR recording of the run (jdk.ThreadAllocationStatistics,
+ * jdk.GarbageCollection, jdk.GCHeapSummary), which is kept for inspection.
+ *
+ * Run with: mvn -Pperf verify [-Dperf.duration=2h] [-Dperf.rate=3000] [-Dperf.record=true]
+ *
+ * Arguments are {@code key=value}: duration (e.g. 90s, 10m, 2h), warmup, rate (operations
+ * per second), threads, threshold (allowed relative regression, e.g. 0.2), baseline (file),
+ * output (directory), record (true to write the results as the new baseline) and
+ * requireBaseline (false to only report when there is no comparable baseline).
+ */
+public final class SoakRunner {
+
+    /** Operations in the order they are issued. */
+    private static final String[] OPERATIONS = {"slug", "excerpt", "readingTime"};
+
+    /** Absolute slack per metric, so that near-zero values do not fail on noise. */
+    private static final Map<String, Double> SLACK = new HashMap<>();
+
+    static {
+        SLACK.put("us", 20.0);
+        SLACK.put("allocation.mbPerSecond", 1.0);
+        SLACK.put("allocation.bytesPerOp", 64.0);
+        SLACK.put("gc.pausePercent", 0.5);
+        SLACK.put("heap.growthMb", 8.0);
+    }
+
+    private static volatile int sink;
+
+    private SoakRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put("duration", "10m");
+        options.put("rate", "3000");
+        options.put("threads", "2");
+        options.put("threshold", "0.2");
+        options.put("baseline", "src/perf/soak-baseline.properties");
+        options.put("output", "target/perf");
+        options.put("record", "false");
+        options.put("requireBaseline", "true");
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        Duration duration = parseDuration(options.get("duration"));
+        Duration warmup = options.containsKey("warmup")
+                ? parseDuration(options.get("warmup"))
+                : Duration.ofSeconds(Math.min(30, duration.getSeconds() / 5));
+        int rate = Integer.parseInt(options.get("rate"));
+        int threads = Integer.parseInt(options.get("threads"));
+        double threshold = Double.parseDouble(options.get("threshold"));
+        Path baseline = Paths.get(options.get("baseline"));
+        Path output = Paths.get(options.get("output"));
+        boolean requireBaseline = Boolean.parseBoolean(options.get("requireBaseline"));
+        if (rate <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Rate and threads must be greater than 0");
+        }
+        Files.createDirectories(output);
+
+        System.out.printf("Soak test: %d ops/s on %d threads for %s (warm-up %s)%n", rate, threads,
+                duration, warmup);
+        SoakCorpus corpus = new SoakCorpus(512, 42);
+
+        Recording recording = new Recording();
+        recording.enable("jdk.ThreadAllocationStatistics").withPeriod(Duration.ofSeconds(1));
+        recording.enable("jdk.GarbageCollection");
+        recording.enable("jdk.GCHeapSummary");
+        recording.start();
+
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + warmup.toNanos();
+        long end = start + warmup.toNanos() + duration.toNanos();
+        Instant measureFromInstant = Instant.now().plusNanos(measureFrom - System.nanoTime());
+
+        List<Driver> drivers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Driver driver = new Driver(corpus, t, threads, rate, start, measureFrom, end);
+            driver.setName("soak-driver-" + t);
+            drivers.add(driver);
+            driver.start();
+        }
+        LatencyHistogram[] histograms = new LatencyHistogram[OPERATIONS.length];
+        for (int op = 0; op < OPERATIONS.length; op++) {
+            histograms[op] = new LatencyHistogram();
+        }
+        for (Driver driver : drivers) {
+            driver.join();
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                histograms[op].add(driver.histograms[op]);
+            }
+        }
+        Instant measureTo = Instant.now();
+
+        recording.stop();
+        Path jfr = output.resolve("soak.jfr");
+        recording.dump(jfr);
+        recording.close();
+
+        Map<String, Double> results = new LinkedHashMap<>();
+        LatencyHistogram all = new LatencyHistogram();
+        for (LatencyHistogram histogram : histograms) {
+            all.add(histogram);
+        }
+        double seconds = duration.toNanos() / 1e9;
+        results.put("throughput", all.count() / seconds);
+        putLatencies(results, "all", all);
+        for (int op = 0; op < OPERATIONS.length; op++) {
+            putLatencies(results, OPERATIONS[op], histograms[op]);
+        }
+        putRecordingMetrics(results, jfr, measureFromInstant, measureTo, all.count());
+
+        Map<String, String> host = host(rate, threads);
+        Path resultFile = output.resolve("soak-result.properties");
+        write(resultFile, host, results, String.format("Soak results: %s", duration));
+        System.out.println("JFR recording: " + jfr);
+        System.out.println("Results: " + resultFile);
+
+        if (Boolean.parseBoolean(options.get("record"))) {
+            print(results);
+            write(baseline, host, results, String.format("Soak baseline: %s", duration));
+            System.out.println("Baseline recorded: " + baseline);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            print(results);
+            System.out.println("No baseline at " + baseline + "; run with record=true to create one.");
+            if (requireBaseline) {
+                System.exit(1);
+            }
+            return;
+        }
+
+        Properties expected = new Properties();
+        try (InputStream in = Files.newInputStream(baseline)) {
+            expected.load(in);
+        }
+        List<String> mismatches = new ArrayList<>();
+        for (Map.Entry<String, String> entry : host.entrySet()) {
+            if (!entry.getValue().equals(expected.getProperty(entry.getKey()))) {
+                mismatches.add(entry.getKey() + "=" + entry.getValue() + " (baseline: "
+                        + expected.getProperty(entry.getKey()) + ")");
+            }
+        }
+        if (!mismatches.isEmpty()) {
+            // Numbers from another machine or load say nothing about a regression
+            print(results);
+            System.out.println("Baseline " + baseline + " was recorded on a different host or configuration:");
+            for (String mismatch : mismatches) {
+                System.out.println("  " + mismatch);
+            }
+            System.out.println("Cannot compare; run with record=true on this host to create a baseline.");
+            if (requireBaseline) {
+                System.exit(1);
+            }
+            return;
+        }
+        if (!compare(results, expected, threshold)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Describes what the results depend on besides the code: a baseline is only compared
+     * with results that have the same description.
+     */
+    private static Map<String, String> host(int rate, int threads) throws IOException {
+        String cpu = "unknown";
+        Path cpuInfo = Paths.get("/proc/cpuinfo");
+        if (Files.isReadable(cpuInfo)) {
+            for (String line : Files.readAllLines(cpuInfo, StandardCharsets.UTF_8)) {
+                if (line.startsWith("model name")) {
+                    cpu = line.substring(line.indexOf(':') + 1).trim();
+                    break;
+                }
+            }
+        }
+        Map<String, String> host = new LinkedHashMap<>();
+        host.put("host.cpu", cpu);
+        host.put("host.cores", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        host.put("host.os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        // A patch release keeps the numbers comparable; a new feature release may not
+        host.put("host.jvm", System.getProperty("java.vm.name") + " " + Runtime.version().feature());
+        host.put("run.rate", String.valueOf(rate));
+        host.put("run.threads", String.valueOf(threads));
+        return host;
+    }
+
+    /**
+     * Issues operations at this thread's share of the rate and records their latency.
+     */
+    private static final class Driver extends Thread {
+        final LatencyHistogram[] histograms = new LatencyHistogram[OPERATIONS.length];
+        private final SoakCorpus corpus;
+        private final int index;
+        private final int threads;
+        private final long interval;
+        private final long first;
+        private final long measureFrom;
+        private final long end;
+
+        Driver(SoakCorpus corpus, int index, int threads, int rate, long start, long measureFrom, long end) {
+            this.corpus = corpus;
+            this.index = index;
+            this.threads = threads;
+            long period = TimeUnit.SECONDS.toNanos(1) / rate;
+            this.interval = period * threads;
+            this.first = start + period * index;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                histograms[op] = new LatencyHistogram();
+            }
+        }
+
+        @Override
+        public void run() {
+            int checksum = 0;
+            for (long k = 0; ; k++) {
+                long scheduled = first + k * interval;
+                long now = System.nanoTime();
+                if (scheduled >= end || now >= end) {
+                    break;
+                }
+                while (now < scheduled) {
+                    LockSupport.parkNanos(scheduled - now);
+                    now = System.nanoTime();
+                }
+
+                long sequence = k * threads + index;
+                int op = (int) (sequence % OPERATIONS.length);
+                int post = (int) ((sequence / OPERATIONS.length) % corpus.size());
+                checksum += execute(op, post);
+
+                if (scheduled >= measureFrom) {
+                    histograms[op].record(System.nanoTime() - scheduled);
+                }
+            }
+            sink += checksum;
+        }
+
+        private int execute(int op, int post) {
+            switch (op) {
+                case 0:
+                    return SlugGenerator.generateSlug(corpus.title(post)).length();
+                case 1:
+                    return ExcerptGenerator.generateExcerpt(corpus.content(post)).length();
+                default:
+                    return ReadingTimeCalculator.calculateReadingTime(corpus.content(post));
+            }
+        }
+    }
+
+    private static void putLatencies(Map<String, Double> results, String name, LatencyHistogram histogram) {
+        results.put(name + ".p50.us", histogram.percentile(0.50) / 1e3);
+        results.put(name + ".p99.us", histogram.percentile(0.99) / 1e3);
+        results.put(name + ".p999.us", histogram.percentile(0.999) / 1e3);
+    }
+
+    /**
+     * Reads allocation, GC pause and heap-after-GC figures of the measured window from the recording.
+     */
+    private static void putRecordingMetrics(Map<String, Double> results, Path jfr, Instant from, Instant to,
+                                            long operations) throws IOException {
+        // First and last allocation sample per driver thread
+        Map<String, long[]> allocated = new HashMap<>();
+        Map<String, Instant[]> sampled = new HashMap<>();
+        long pauseNanos = 0;
+        List<double[]> heapAfterGc = new ArrayList<>();
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(jfr)) {
+            Instant time = event.getStartTime();
+            if (time.isBefore(from) || time.isAfter(to)) {
+                continue;
+            }
+            switch (event.getEventType().getName()) {
+                case "jdk.ThreadAllocationStatistics": {
+                    String thread = event.getThread("thread") != null ? event.getThread("thread").getJavaName() : null;
+                    if (thread == null || !thread.startsWith("soak-driver-")) {
+                        break;
+                    }
+                    long bytes = event.getLong("allocated");
+                    long[] range = allocated.computeIfAbsent(thread, k -> new long[] {bytes, bytes});
+                    Instant[] times = sampled.computeIfAbsent(thread, k -> new Instant[] {time, time});
+                    if (time.isBefore(times[0])) {
+                        range[0] = bytes;
+                        times[0] = time;
+                    }
+                    if (time.isAfter(times[1])) {
+                        range[1] = bytes;
+                        times[1] = time;
+                    }
+                    break;
+                }
+                case "jdk.GarbageCollection":
+                    pauseNanos += event.getDuration("sumOfPauses").toNanos();
+                    break;
+                case "jdk.GCHeapSummary":
+                    if ("After GC".equals(event.getString("when"))) {
+                        heapAfterGc.add(new double[] {time.toEpochMilli(), event.getLong("heapUsed")});
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        double bytesPerSecond = 0;
+        for (Map.Entry<String, long[]> entry : allocated.entrySet()) {
+            Instant[] times = sampled.get(entry.getKey());
+            double seconds = Duration.between(times[0], times[1]).toNanos() / 1e9;
+            if (seconds > 0) {
+                bytesPerSecond += (entry.getValue()[1] - entry.getValue()[0]) / seconds;
+            }
+        }
+        double windowSeconds = Duration.between(from, to).toNanos() / 1e9;
+        results.put("allocation.mbPerSecond", bytesPerSecond / (1024 * 1024));
+        results.put("allocation.bytesPerOp", operations > 0 ? bytesPerSecond * windowSeconds / operations : 0);
+        results.put("gc.pausePercent", windowSeconds > 0 ? pauseNanos / 1e9 / windowSeconds * 100 : 0);
+        results.put("heap.growthMb", heapGrowth(heapAfterGc) / (1024 * 1024));
+    }
+
+    /**
+     * Compares the live heap after GC in the last quarter of the run with the first quarter.
+     * Returns 0 when there were too few collections to tell.
+     */
+    private static double heapGrowth(List<double[]> heapAfterGc) {
+        int quarter = heapAfterGc.size() / 4;
+        if (quarter == 0) {
+            return 0;
+        }
+        heapAfterGc.sort((a, b) -> Double.compare(a[0], b[0]));
+        double early = 0;
+        double late = 0;
+        for (int i = 0; i < quarter; i++) {
+            early += heapAfterGc.get(i)[1];
+            late += heapAfterGc.get(heapAfterGc.size() - 1 - i)[1];
+        }
+        return Math.max(0, (late - early) / quarter);
+    }
+
+    /**
+     * Prints each metric next to its baseline and returns false if any regressed.
+     */
+    private static boolean compare(Map<String, Double> results, Properties baseline, double threshold) {
+        List<String> failures = new ArrayList<>();
+        System.out.printf("%nCompared with baseline (threshold %.0f%%)%n", threshold * 100);
+
+        for (Map.Entry<String, Double> entry : results.entrySet()) {
+            String key = entry.getKey();
+            double value = entry.getValue();
+            String expected = baseline.getProperty(key);
+            if (expected == null) {
+                System.out.printf("%-28s %14.2f  (no baseline)%n", key, value);
+                continue;
+            }
+
+            double base = Double.parseDouble(expected);
+            boolean ok;
+            if (key.equals("throughput")) {
+                ok = value >= base * (1 - threshold);
+            } else {
+                double slack = SLACK.getOrDefault(key.endsWith(".us") ? "us" : key, 0.0);
+                ok = value <= Math.max(base * (1 + threshold), base + slack);
+            }
+            System.out.printf("%-28s %14.2f  baseline %14.2f%s%n", key, value, base, ok ? "" : "  REGRESSED");
+            if (!ok) {
+                failures.add(key);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            System.out.println("Soak regression in: " + failures);
+            return false;
+        }
+        System.out.println("No regression.");
+        return true;
+    }
+
+    private static void print(Map<String, Double> results) {
+        System.out.println();
+        for (Map.Entry<String, Double> entry : results.entrySet()) {
+            System.out.printf("%-28s %14.2f%n", entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void write(Path file, Map<String, String> host, Map<String, Double> results, String comment)
+            throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("# " + comment + "\n");
+            for (Map.Entry<String, String> entry : host.entrySet()) {
+                out.write(entry.getKey() + "=" + entry.getValue().replace("\\", "\\\\") + "\n");
+            }
+            for (Map.Entry<String, Double> entry : results.entrySet()) {
+                out.write(entry.getKey() + "=" + String.format(Locale.ROOT, "%.2f", entry.getValue()) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Parses 90s, 10m, 2h, or a plain number of seconds.
+     */
+    static Duration parseDuration(String text) {
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        char unit = value.charAt(value.length() - 1);
+        if (Character.isDigit(unit)) {
+            return Duration.ofSeconds(Long.parseLong(value));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        switch (unit) {
+            case 's':
+                return Duration.ofSeconds(amount);
+            case 'm':
+                return Duration.ofMinutes(amount);
+            case 'h':
+                return Duration.ofHours(amount);
+            default:
+                throw new IllegalArgumentException("Unknown duration unit: " + text);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for CharSearch class. Runs against the Java 11 and, in the
+ * multi-release jar, the Java 21 implementation.
+ */
+public class CharSearchTest {
+
+    @Test
+    public void testFindsCharInRange() {
+        assertEquals(3, CharSearch.indexOf("abc>def>", '>', 0, 8));
+        assertEquals(7, CharSearch.indexOf("abc>def>", '>', 4, 8));
+    }
+
+    @Test
+    public void testStopsAtEndOfRange() {
+        assertEquals(-1, CharSearch.indexOf("abc>def>", '>', 4, 7));
+        assertEquals(-1, CharSearch.indexOf("abc>def>", '>', 0, 3));
+    }
+
+    @Test
+    public void testRangeEndingWithText() {
+        assertEquals(-1, CharSearch.indexOf("abc>def", '>', 4, 7));
+        assertEquals(3, CharSearch.indexOf("abc>def", '>', 1, 7));
+    }
+
+    @Test
+    public void testEmptyRange() {
+        assertEquals(-1, CharSearch.indexOf("abc>", '>', 3, 3));
+        assertEquals(-1, CharSearch.indexOf("", '>', 0, 0));
+    }
+}
@@ -0,0 +1,120 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ContentAnalyzer class.
+ */
+public class ContentAnalyzerTest {
+
+    private static final String ARTICLE = "<h1>My Article</h1>" +
+            "<p>Intro text for the article.</p>" +
+            "<h2 id=\"x\">Getting <em>Started</em></h2><p>Some words here.</p>" +
+            "<h3>Install &amp; Configure</h3><p>More words.</p>" +
+            "<h2>Getting Started</h2><p>Again.</p>" +
+            "<h4>Too deep</h4>" +
+            "<header>Not a heading</header>";
+
+    @Test
+    public void testExtractsHeadingsWithUniqueAnchors() {
+        List<ContentAnalysis.Heading> headings = ContentAnalyzer.builder().build().analyze(ARTICLE).getHeadings();
+
+        assertEquals(3, headings.size());
+        assertEquals(2, headings.get(0).getLevel());
+        assertEquals("Getting Started", headings.get(0).getText());
+        assertEquals("getting-started", headings.get(0).getAnchor());
+        assertEquals(3, headings.get(1).getLevel());
+        assertEquals("Install & Configure", headings.get(1).getText());
+        assertEquals("install-configure", headings.get(1).getAnchor());
+        assertEquals("getting-started-1", headings.get(2).getAnchor());
+    }
+
+    @Test
+    public void testWordCountMatchesReadingTimeCalculator() {
+        ContentAnalysis analysis = ContentAnalyzer.builder().build().analyze(ARTICLE);
+        assertEquals(ReadingTimeCalculator.countWords(ARTICLE), analysis.getWordCount());
+        assertEquals(ReadingTimeCalculator.calculateReadingTime(ARTICLE), analysis.getReadingTimeMinutes());
+    }
+
+    @Test
+    public void testCustomHeadingLevels() {
+        ContentAnalyzer analyzer = ContentAnalyzer.builder().headingLevels(1, 4).build();
+        List<ContentAnalysis.Heading> headings = analyzer.analyze(ARTICLE).getHeadings();
+        assertEquals(5, headings.size());
+        assertEquals("my-article", headings.get(0).getAnchor());
+        assertEquals("too-deep", headings.get(4).getAnchor());
+    }
+
+    @Test
+    public void testAnchorCollidingWithSuffixedHeading() {
+        String html = "<h2>Intro</h2><h2>Intro 1</h2><h2>Intro</h2><h2>!!!</h2>";
+        List<ContentAnalysis.Heading> headings = ContentAnalyzer.builder().build().analyze(html).getHeadings();
+        assertEquals("intro", headings.get(0).getAnchor());
+        assertEquals("intro-1", headings.get(1).getAnchor());
+        assertEquals("intro-2", headings.get(2).getAnchor());
+        assertEquals("section", headings.get(3).getAnchor());
+    }
+
+    @Test
+    public void testEmptyContent() {
+        ContentAnalysis analysis = ContentAnalyzer.builder().build().analyze(null);
+        assertEquals(0, analysis.getWordCount());
+        assertEquals(0, analysis.getReadingTimeMinutes());
+        assertTrue(analysis.getHeadings().isEmpty());
+    }
+
+    @Test
+    public void testHeadingLevel() {
+        assertEquals(2, ContentAnalyzer.headingLevel("<h2>", 0, 4));
+        assertEquals(-3, ContentAnalyzer.headingLevel("</H3>", 0, 5));
+        assertEquals(2, ContentAnalyzer.headingLevel("<h2 class=\"x\">", 0, 14));
+        assertEquals(0, ContentAnalyzer.headingLevel("<header>", 0, 8));
+        assertEquals(0, ContentAnalyzer.headingLevel("<hr>", 0, 4));
+        assertEquals(0, ContentAnalyzer.headingLevel("<h>", 0, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidHeadingLevels() {
+        ContentAnalyzer.builder().headingLevels(3, 2).build();
+    }
+
+    @Test
+    public void testFingerprint() {
+        String html = "<h2>Intro</h2><p>Hello &amp; welcome.</p>";
+        ContentAnalysis analysis = ContentAnalyzer.builder().build().analyze(html);
+        assertEquals(ContentFingerprint.of(html), analysis.getFingerprint());
+        assertEquals(ContentFingerprint.ofText("Intro Hello & welcome."), analysis.getFingerprint());
+    }
+
+    @Test
+    public void testTopTerms() {
+        String html = "<h2>Java Performance</h2><p>The JVM runs Java. The <b>java</b> tools &amp; the JVM.</p>";
+        ContentAnalysis analysis = ContentAnalyzer.builder()
+                .topTerms(2)
+                .stopWords(ContentAnalyzer.ENGLISH_STOP_WORDS)
+                .build()
+                .analyze(html);
+
+        List<ContentAnalysis.Term> terms = analysis.getTopTerms();
+        assertEquals(2, terms.size());
+        assertEquals("java", terms.get(0).getTerm());
+        assertEquals(3, terms.get(0).getCount());
+        assertEquals(3.0 / analysis.getWordCount(), terms.get(0).getDensity(), 1e-9);
+        assertEquals("jvm", terms.get(1).getTerm());
+        assertEquals(2, terms.get(1).getCount());
+    }
+
+    @Test
+    public void testTopTermsDisabledByDefault() {
+        assertTrue(ContentAnalyzer.builder().build().analyze(ARTICLE).getTopTerms().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTopTerms() {
+        ContentAnalyzer.builder().topTerms(-1).build();
+    }
+}
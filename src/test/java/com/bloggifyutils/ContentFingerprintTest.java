@@ -0,0 +1,62 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ContentFingerprint class.
+ */
+public class ContentFingerprintTest {
+
+    @Test
+    public void testMurmur3Vectors() {
+        // MurmurHash3 x64 128 of the UTF-16LE bytes, as h1 and h2
+        assertEquals("00000000000000000000000000000000", ContentFingerprint.ofText("").toHexString());
+        assertEquals("ee2ee18fe1bfd3877b927262d8c336c4", ContentFingerprint.ofText("hello").toHexString());
+        assertEquals("1ac6acfe7367072eceacd682c36f564a", ContentFingerprint.ofText("abcdefghi").toHexString());
+        assertEquals("d1049622ca5dca5eae595f1a6f16eef1",
+                ContentFingerprint.ofText("Hello world, this is a post.").toHexString());
+    }
+
+    @Test
+    public void testMatchesStrippedText() {
+        String[] contents = {
+            "<p>Hello <b>world</b>!</p>\n\n<p>Second   paragraph.</p>",
+            "Fish &amp; chips&nbsp;tonight &lt;3",
+            "  <div>  </div> spaced\t\tout  ",
+            "a <unclosed tag",
+            "<h2>Title</h2><p>Text</p>"
+        };
+        for (String content : contents) {
+            assertEquals(content, ContentFingerprint.ofText(ExcerptGenerator.stripHtmlTags(content)),
+                    ContentFingerprint.of(content));
+        }
+    }
+
+    @Test
+    public void testIgnoresMarkupChanges() {
+        ContentFingerprint original = ContentFingerprint.of("<p>Hello <em>world</em></p>");
+        assertEquals(original, ContentFingerprint.of("<div class=\"x\">Hello\n  <strong>world</strong></div>"));
+        assertNotEquals(original, ContentFingerprint.of("<p>Hello there world</p>"));
+    }
+
+    @Test
+    public void testHexRoundTrip() {
+        ContentFingerprint fingerprint = ContentFingerprint.of("<p>Some content</p>");
+        ContentFingerprint parsed = ContentFingerprint.fromHexString(fingerprint.toHexString());
+        assertEquals(fingerprint, parsed);
+        assertEquals(fingerprint.hashCode(), parsed.hashCode());
+        assertEquals(fingerprint.getHigh(), fingerprint.asLong());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidHex() {
+        ContentFingerprint.fromHexString("not-a-fingerprint-of-32-digits!!");
+    }
+
+    @Test
+    public void testNullContent() {
+        assertEquals(ContentFingerprint.ofText(""), ContentFingerprint.of(null));
+    }
+}
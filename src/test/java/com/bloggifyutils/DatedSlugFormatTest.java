@@ -0,0 +1,87 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for DatedSlugFormat class.
+ */
+public class DatedSlugFormatTest {
+
+    @Test
+    public void testIsoMatchesStringFormat() {
+        for (int month = 1; month <= 12; month++) {
+            String expected = String.format("%04d-%02d-%02d-%s", 987, month, 9, "hello-world");
+            assertEquals(expected, DatedSlugFormat.ISO.format("Hello World", 987, month, 9));
+        }
+    }
+
+    @Test
+    public void testCustomLayouts() {
+        LocalDate date = LocalDate.of(2024, 3, 5);
+        assertEquals("2024/03/my-post", DatedSlugFormat.compile("yyyy/mm/slug").format("My Post", date));
+        assertEquals("2024-03-my-post", DatedSlugFormat.compile("yyyy-mm-slug").format("My Post", date));
+        assertEquals("my-post.20240305", DatedSlugFormat.compile("slug.yyyymmdd").format("My Post", date));
+    }
+
+    @Test
+    public void testLiteralTextContainingFields() {
+        assertEquals("comments/2024/hello", DatedSlugFormat.compile("comments/yyyy/slug").format("Hello", 2024, 3, 5));
+        assertEquals("blog/add-ons/03/hello", DatedSlugFormat.compile("blog/add-ons/mm/slug").format("Hello", 2024, 3, 5));
+        assertEquals("slug/hello", DatedSlugFormat.compile("'slug'/slug").format("Hello", 2024, 3, 5));
+        assertEquals("it's-hello", DatedSlugFormat.compile("'it''s'-slug").format("Hello", 2024, 3, 5));
+        assertEquals("'05-hello", DatedSlugFormat.compile("''dd-slug").format("Hello", 2024, 3, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnterminatedQuote() {
+        DatedSlugFormat.compile("'yyyy/slug");
+    }
+
+    @Test
+    public void testTemporalAccessor() {
+        LocalDateTime dateTime = LocalDateTime.of(LocalDate.of(2024, 10, 22), LocalTime.NOON);
+        assertEquals("2024-10-22-news", DatedSlugFormat.ISO.format("News", dateTime));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTemporalWithoutDay() {
+        DatedSlugFormat.ISO.format("News", YearMonth.of(2024, 10));
+    }
+
+    @Test
+    public void testEmptyTitle() {
+        assertEquals("2024-10-22-", DatedSlugFormat.ISO.format("", 2024, 10, 22));
+    }
+
+    @Test
+    public void testLeapDay() {
+        assertEquals("2024-02-29-leap", DatedSlugFormat.ISO.format("Leap", 2024, 2, 29));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLeapDay() {
+        DatedSlugFormat.ISO.format("Leap", 2023, 2, 29);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMonth() {
+        DatedSlugFormat.ISO.format("Post", 2024, 13, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidYear() {
+        DatedSlugFormat.ISO.format("Post", 10000, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPatternWithoutSlug() {
+        DatedSlugFormat.compile("yyyy-mm-dd");
+    }
+}
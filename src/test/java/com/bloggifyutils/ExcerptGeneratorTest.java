@@ -159,4 +159,62 @@ public class ExcerptGeneratorTest {
         assertFalse(excerpt.contains("<"));
         assertFalse(excerpt.contains(">"));
     }
+
+    @Test
+    public void testMarkdownExcerpt() {
+        String markdown = "## Intro\n\nRead the [docs](https://example.com/docs) for **details**.\n\n```\ncode\n```";
+        assertEquals("Intro Read the docs for details.", ExcerptGenerator.generateExcerpt(markdown, InputFormat.MARKDOWN));
+        assertEquals("Intro Read...", ExcerptGenerator.generateExcerpt(markdown, 14, "...", InputFormat.MARKDOWN));
+        assertEquals("Read the docs for details.",
+                ExcerptGenerator.generateExcerptFromFirstParagraph(markdown, InputFormat.MARKDOWN));
+    }
+
+    @Test
+    public void testHtmlFormatMatchesDefault() {
+        assertEquals(ExcerptGenerator.generateExcerpt(HTML_CONTENT),
+                ExcerptGenerator.generateExcerpt(HTML_CONTENT, InputFormat.HTML));
+        assertEquals(ExcerptGenerator.generateExcerptFromFirstParagraph(SAMPLE_CONTENT),
+                ExcerptGenerator.generateExcerptFromFirstParagraph(SAMPLE_CONTENT, InputFormat.HTML));
+    }
+
+    @Test
+    public void testGenerateMetaDescriptionByWidth() {
+        StringBuilder narrow = new StringBuilder();
+        StringBuilder wide = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            narrow.append("fill it in ");
+            wide.append("日本語");
+        }
+
+        // 920px of 14px Arial: more than 155 narrow characters, far fewer CJK ones
+        String narrowMeta = ExcerptGenerator.generateMetaDescriptionByWidth(narrow.toString());
+        assertTrue(narrowMeta.length() > 155);
+        assertTrue(narrowMeta.endsWith("in") || narrowMeta.endsWith("it") || narrowMeta.endsWith("fill"));
+        assertEquals(65, ExcerptGenerator.generateMetaDescriptionByWidth(wide.toString()).length());
+        assertEquals("", ExcerptGenerator.generateMetaDescriptionByWidth(null));
+    }
+
+    @Test
+    public void testGenerateTwitterDescriptionByWidth() {
+        StringBuilder wide = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            wide.append("日本語");
+        }
+
+        // 1000px of 15px text holds 66 CJK characters
+        assertEquals(66, ExcerptGenerator.generateTwitterDescriptionByWidth(wide.toString()).length());
+        assertEquals("Hello world", ExcerptGenerator.generateTwitterDescriptionByWidth("<p>Hello world</p>"));
+        assertEquals("", ExcerptGenerator.generateTwitterDescriptionByWidth(null));
+    }
+
+    @Test
+    public void testGenerateExcerptByWidth() {
+        assertEquals("Hello...", ExcerptGenerator.generateExcerptByWidth("<p>Hello world</p>", 40, 10, "..."));
+        assertEquals("Hello world", ExcerptGenerator.generateExcerptByWidth("<p>Hello world</p>", 50, 10, "..."));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGenerateExcerptByWidthWithInvalidWidth() {
+        ExcerptGenerator.generateExcerptByWidth(SAMPLE_CONTENT, 0, 14, "...");
+    }
 }
@@ -0,0 +1,146 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ExcerptPolicy class.
+ */
+public class ExcerptPolicyTest {
+
+    private static final String SAMPLE_CONTENT = "<p>This is a sample blog post content. " +
+            "It contains multiple sentences to test the excerpt generation.</p>\n\n" +
+            "<p>The excerpt should be properly truncated at word boundaries.</p>";
+
+    @Test
+    public void testDefaultsMatchGenerateExcerpt() {
+        ExcerptPolicy policy = ExcerptPolicy.builder().build();
+        assertEquals(ExcerptGenerator.generateExcerpt(SAMPLE_CONTENT), policy.apply(SAMPLE_CONTENT));
+    }
+
+    @Test
+    public void testCustomSuffixMatchesGenerateExcerpt() {
+        for (int limit = 1; limit < 180; limit++) {
+            ExcerptPolicy policy = ExcerptPolicy.builder().limit(limit).suffix(" [Read more]").build();
+            assertEquals(ExcerptGenerator.generateExcerpt(SAMPLE_CONTENT, limit, " [Read more]"),
+                    policy.apply(SAMPLE_CONTENT));
+        }
+    }
+
+    @Test
+    public void testWordsMatchGenerateExcerptByWords() {
+        for (int words = 1; words < 30; words++) {
+            ExcerptPolicy policy = ExcerptPolicy.builder()
+                    .unit(ExcerptPolicy.LengthUnit.WORDS).limit(words).build();
+            assertEquals(ExcerptGenerator.generateExcerptByWords(SAMPLE_CONTENT, words),
+                    policy.apply(SAMPLE_CONTENT));
+        }
+    }
+
+    @Test
+    public void testExactBoundary() {
+        ExcerptPolicy policy = ExcerptPolicy.builder()
+                .limit(12).boundary(ExcerptPolicy.Boundary.EXACT).suffix("").build();
+        assertEquals("This is a sa", policy.apply(SAMPLE_CONTENT));
+    }
+
+    @Test
+    public void testPreserveWhitespace() {
+        ExcerptPolicy policy = ExcerptPolicy.builder()
+                .whitespace(ExcerptPolicy.Whitespace.PRESERVE).limit(500).build();
+        String excerpt = policy.apply(SAMPLE_CONTENT);
+        assertTrue(excerpt.contains("\n\n"));
+        assertFalse(excerpt.contains("<"));
+    }
+
+    @Test
+    public void testApplyAll() {
+        ExcerptPolicy card = ExcerptPolicy.builder().limit(40).build();
+        ExcerptPolicy meta = ExcerptPolicy.builder().limit(155).suffix("").build();
+        ExcerptPolicy words = ExcerptPolicy.builder().unit(ExcerptPolicy.LengthUnit.WORDS).limit(5).build();
+
+        String[] excerpts = ExcerptPolicy.applyAll(SAMPLE_CONTENT, card, meta, words);
+
+        assertEquals(card.apply(SAMPLE_CONTENT), excerpts[0]);
+        assertEquals(meta.apply(SAMPLE_CONTENT), excerpts[1]);
+        assertEquals("This is a sample blog...", excerpts[2]);
+    }
+
+    @Test
+    public void testEmptyContent() {
+        ExcerptPolicy policy = ExcerptPolicy.builder().build();
+        assertEquals("", policy.apply(null));
+        assertEquals("", policy.apply("   "));
+        assertArrayEquals(new String[] {"", ""}, ExcerptPolicy.applyAll("", policy, policy));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLimit() {
+        ExcerptPolicy.builder().limit(0).build();
+    }
+
+    @Test
+    public void testMarkdownInput() {
+        String markdown = "# Title\n\nSome *emphasis* and a [link](https://example.com).\n\nSecond paragraph.";
+        ExcerptPolicy collapse = ExcerptPolicy.builder().inputFormat(InputFormat.MARKDOWN).build();
+        ExcerptPolicy preserve = ExcerptPolicy.builder().inputFormat(InputFormat.MARKDOWN)
+                .whitespace(ExcerptPolicy.Whitespace.PRESERVE).build();
+        ExcerptPolicy html = ExcerptPolicy.builder().build();
+
+        assertEquals(InputFormat.MARKDOWN, collapse.getInputFormat());
+        assertEquals("Title Some emphasis and a link. Second paragraph.", collapse.apply(markdown));
+        assertEquals("Title\n\nSome emphasis and a link.\n\nSecond paragraph.", preserve.apply(markdown));
+
+        String[] excerpts = ExcerptPolicy.applyAll(markdown, collapse, html, preserve);
+        assertEquals(collapse.apply(markdown), excerpts[0]);
+        assertEquals(html.apply(markdown), excerpts[1]);
+        assertEquals(preserve.apply(markdown), excerpts[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullInputFormat() {
+        ExcerptPolicy.builder().inputFormat(null).build();
+    }
+
+    @Test
+    public void testPixelWidth() {
+        ExcerptPolicy narrow = ExcerptPolicy.builder()
+                .unit(ExcerptPolicy.LengthUnit.PIXELS).limit(40).fontSize(10).build();
+        ExcerptPolicy wide = ExcerptPolicy.builder()
+                .unit(ExcerptPolicy.LengthUnit.PIXELS).limit(50).fontSize(10).build();
+        ExcerptPolicy exact = ExcerptPolicy.builder().unit(ExcerptPolicy.LengthUnit.PIXELS)
+                .limit(40).fontSize(10).boundary(ExcerptPolicy.Boundary.EXACT).suffix("").build();
+
+        // "Hello world" is 49.45px at 10px; the suffix must fit too
+        assertEquals("Hello...", narrow.apply("Hello world"));
+        assertEquals("Hello world", wide.apply("Hello world"));
+        assertEquals("Hello wo", exact.apply("Hello world"));
+        assertEquals(10, narrow.getFontSize(), 0);
+    }
+
+    @Test
+    public void testPixelWidthOfWideText() {
+        ExcerptPolicy policy = ExcerptPolicy.builder()
+                .unit(ExcerptPolicy.LengthUnit.PIXELS).limit(80).fontSize(10).suffix("").build();
+        assertEquals("日本語のテキスト", policy.apply("日本語のテキストです"));
+        assertEquals("illicit illicit illicit", policy.apply("illicit illicit illicit illicit illicit"));
+    }
+
+    @Test
+    public void testPixelLimitNarrowerThanSuffix() {
+        // "..." is about 8px wide at 10px
+        try {
+            ExcerptPolicy.builder().unit(ExcerptPolicy.LengthUnit.PIXELS).limit(8).fontSize(10).build();
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Limit must be wider than the suffix", e.getMessage());
+        }
+        ExcerptPolicy.builder().unit(ExcerptPolicy.LengthUnit.PIXELS).limit(8).fontSize(10).suffix("").build();
+        ExcerptPolicy.builder().limit(2).suffix(" [Read more]").build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFontSize() {
+        ExcerptPolicy.builder().fontSize(0).build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for FeedWriter class.
+ */
+public class FeedWriterTest {
+
+    private static final List<Post> POSTS = Arrays.asList(
+            new Post("1", "Tips & Tricks", "<p>Use <b>less</b> regex.</p>", LocalDate.of(2024, 10, 22)),
+            new Post("2", "Second Post", "Plain text body.", LocalDate.of(2024, 10, 21)));
+
+    @Test
+    public void testWritesItems() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        FeedWriter.builder("My Blog", "https://blog.example.com").description("Notes").build()
+                .write(POSTS.iterator(), channel);
+
+        assertTrue(channel.isOpen());
+        String xml = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(xml.contains("<rss version=\"2.0\">"));
+        assertTrue(xml.contains("<title>My Blog</title>"));
+        assertTrue(xml.contains("<title>Tips &amp; Tricks</title>"));
+        assertTrue(xml.contains("<link>https://blog.example.com/2024-10-22-tips-tricks</link>"));
+        assertTrue(xml.contains("<pubDate>Tue, 22 Oct 2024 00:00:00 GMT</pubDate>"));
+        assertTrue(xml.contains("<description>Use less regex. (1 min read)</description>"));
+        assertTrue(xml.indexOf("tips-tricks") < xml.indexOf("second-post"));
+        assertTrue(xml.endsWith("</channel>\n</rss>\n"));
+    }
+
+    @Test
+    public void testGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FeedWriter.builder("My Blog", "https://blog.example.com/").gzip(true).build()
+                .write(POSTS.iterator(), Channels.newChannel(out));
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ByteArrayOutputStream xml = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                xml.write(buffer, 0, n);
+            }
+            assertTrue(new String(xml.toByteArray(), StandardCharsets.UTF_8).contains("second-post"));
+        }
+    }
+
+    @Test
+    public void testDropsInvalidXmlCharacters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Post> posts = Arrays.asList(new Post("1", "Bad\u0001Title", "", LocalDate.of(2024, 1, 1)));
+        FeedWriter.builder("My Blog", "https://blog.example.com/").build()
+                .write(posts.iterator(), Channels.newChannel(out));
+
+        assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).contains("<title>BadTitle</title>"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() {
+        FeedWriter.builder("My Blog", "https://blog.example.com/").batchSize(0).build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for GlyphWidths class.
+ */
+public class GlyphWidthsTest {
+
+    @Test
+    public void testAsciiWidths() {
+        assertEquals(278, GlyphWidths.width(' '));
+        assertEquals(222, GlyphWidths.width('i'));
+        assertEquals(944, GlyphWidths.width('W'));
+        assertEquals(1015, GlyphWidths.width('@'));
+        assertEquals(584, GlyphWidths.width('~'));
+        assertEquals(4945, GlyphWidths.width("Hello world", 0, 11));
+    }
+
+    @Test
+    public void testOtherWidths() {
+        assertEquals(556, GlyphWidths.width('é'));
+        assertEquals(1000, GlyphWidths.width('Æ'));
+        assertEquals(0, GlyphWidths.width('́'));
+        assertEquals(0, GlyphWidths.width('​'));
+        assertEquals(1000, GlyphWidths.width('日'));
+        assertEquals(1000, GlyphWidths.width('—'));
+        assertEquals(1000, GlyphWidths.width(0x1F600));
+        assertEquals(2000, GlyphWidths.width("😀日", 0, 3));
+    }
+
+    @Test
+    public void testFit() {
+        assertEquals(5, GlyphWidths.fit("Hello world", 0, 2278));
+        assertEquals(6, GlyphWidths.fit("Hello world", 0, 2278 + 278));
+        assertEquals(11, GlyphWidths.fit("Hello world", 0, 10000));
+        assertEquals(6, GlyphWidths.fit("Hello world", 6, 0));
+        assertEquals(0, GlyphWidths.fit("Hello", 0, -1));
+    }
+
+    @Test
+    public void testFitKeepsSurrogatePairs() {
+        assertEquals(1, GlyphWidths.fit("a😀", 0, 1000));
+        assertEquals(3, GlyphWidths.fit("a😀", 0, 1556));
+    }
+
+    @Test
+    public void testToUnits() {
+        assertEquals(65714, GlyphWidths.toUnits(920, 14));
+        assertEquals(4000, GlyphWidths.toUnits(40, 10));
+    }
+}
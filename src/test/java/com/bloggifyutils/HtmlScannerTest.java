@@ -0,0 +1,80 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for HtmlScanner class.
+ */
+public class HtmlScannerTest {
+
+    private static final String[] SAMPLES = {
+        "<p>This is <strong>HTML</strong> content.</p><p>It should be stripped properly.</p>",
+        "Hello&nbsp;World &amp; Friends &lt;test&gt; &quot;quoted&quot; it&#39;s",
+        "  leading and trailing  \n\t ",
+        "x < y and y > z",
+        "unclosed <tag and & more",
+        "<a href=\"x\">link</a>\n\n<p>next</p>",
+        "café — naïve",
+        "&nbsp;&nbsp;start",
+        "<br><br>"
+    };
+
+    @Test
+    public void testStripMatchesRegexImplementation() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample, regexStrip(sample, true), HtmlScanner.strip(sample, true));
+            assertEquals(sample, regexStrip(sample, false), HtmlScanner.strip(sample, false));
+        }
+    }
+
+    @Test
+    public void testStripDecodesEntitiesOnce() {
+        assertEquals("&lt;", HtmlScanner.strip("&amp;lt;", true));
+    }
+
+    @Test
+    public void testScanReportsBoundaryWords() {
+        HtmlScanner scanner = new HtmlScanner();
+        String text = "one two<b>three</b> four";
+
+        scanner.scan(text, 1, 6);
+        assertEquals(2, scanner.words);
+        assertTrue(scanner.startsInWord);
+        assertTrue(scanner.endsInWord);
+
+        scanner.scan(text, 7, text.length());
+        assertEquals(2, scanner.words);
+        assertFalse(scanner.startsInWord);
+    }
+
+    @Test
+    public void testSafeSplitSkipsTags() {
+        String text = "word <span class=\"x\"> more";
+        int inside = text.indexOf("class");
+        assertEquals(text.indexOf('>') + 1, HtmlScanner.safeSplit(text, 0, inside, text.length()));
+        assertEquals(3, HtmlScanner.safeSplit(text, 0, 3, text.length()));
+    }
+
+    @Test
+    public void testIsWhitespace() {
+        assertTrue(HtmlScanner.isWhitespace(' '));
+        assertTrue(HtmlScanner.isWhitespace('\u000B'));
+        assertFalse(HtmlScanner.isWhitespace('\u00A0'));
+        assertFalse(HtmlScanner.isWhitespace('a'));
+    }
+
+    private static String regexStrip(String content, boolean collapse) {
+        String cleaned = content.replaceAll("<[^>]*>", " ")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'");
+        if (collapse) {
+            cleaned = cleaned.replaceAll("\\s+", " ");
+        }
+        return cleaned.trim();
+    }
+}
@@ -0,0 +1,133 @@
+package com.bloggifyutils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for MappedSlugIndex class.
+ */
+public class MappedSlugIndexTest {
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("slugs", ".idx");
+        Files.delete(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testSlugsSurviveReopen() throws IOException {
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            assertTrue(index.add("hello-world"));
+            assertEquals("my-post", SlugGenerator.generateUniqueSlug("My Post", index));
+            assertEquals("my-post-1", SlugGenerator.generateUniqueSlug("My Post", index));
+        }
+
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            assertEquals(3, index.size());
+            assertTrue(index.contains("hello-world"));
+            assertTrue(index.contains("my-post-1"));
+            assertFalse(index.add("my-post"));
+            assertEquals("my-post-2", SlugGenerator.generateUniqueSlug("My Post", index));
+        }
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            index.add("first-post");
+            index.add("second-post");
+        }
+
+        // Simulate a crash in the middle of writing a record
+        long goodSize = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 10, 'p', 'a', 'r'}), goodSize);
+        }
+
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            assertEquals(2, index.size());
+            assertEquals(goodSize, Files.size(file));
+            assertTrue(index.add("third-post"));
+        }
+
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            assertEquals(3, index.size());
+            assertTrue(index.contains("third-post"));
+        }
+    }
+
+    @Test
+    public void testCorruptChecksumStopsReplay() throws IOException {
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            index.add("first-post");
+            index.add("second-post");
+        }
+
+        // Flip a byte inside the second record's slug
+        long offset = Files.size(file) - 6;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), offset);
+        }
+
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            assertEquals(1, index.size());
+            assertTrue(index.contains("first-post"));
+            assertFalse(index.contains("second-post"));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsForeignFile() throws IOException {
+        Files.write(file, "not a slug index".getBytes("UTF-8"));
+        MappedSlugIndex.open(file);
+    }
+
+    @Test
+    public void testExpectedSlugsStayWithinSetLimit() {
+        // size / 16 used to ask for more slugs than a set can hold past 1 GiB
+        assertEquals(1, MappedSlugIndex.expectedSlugs(8));
+        assertEquals(1000, MappedSlugIndex.expectedSlugs(8 + 32 * 1000));
+        assertTrue(MappedSlugIndex.expectedSlugs(Integer.MAX_VALUE) <= OffHeapSlugSet.MAX_SLUGS);
+        assertEquals(OffHeapSlugSet.MAX_SLUGS, MappedSlugIndex.expectedSlugs(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testConcurrentUniqueSlugsSurviveReopen() throws Exception {
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            StressTester.run(StressTester.THREADS, thread -> {
+                for (int i = 0; i < 100; i++) {
+                    String slug = SlugGenerator.generateUniqueSlug("Post " + (i % 10), index);
+                    assertTrue(slug, generated.add(slug));
+                }
+            });
+            assertEquals(generated.size(), index.size());
+        }
+
+        try (MappedSlugIndex index = MappedSlugIndex.open(file)) {
+            assertEquals(generated.size(), index.size());
+            for (String slug : generated) {
+                assertTrue(slug, index.contains(slug));
+            }
+        }
+    }
+}
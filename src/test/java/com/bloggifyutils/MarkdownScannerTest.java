@@ -0,0 +1,109 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for MarkdownScanner class.
+ */
+public class MarkdownScannerTest {
+
+    private static final String POST = "# Getting Started\n\n"
+            + "Install the **library** with [Maven](https://maven.apache.org \"Maven\").\n\n"
+            + "```java\n"
+            + "String slug = SlugGenerator.generateSlug(title);\n"
+            + "```\n\n"
+            + "- Use `generateSlug` for URLs\n"
+            + "- Read the _guide_ ![diagram](img/flow.png)\n\n"
+            + "[guide]: https://example.com/guide\n";
+
+    @Test
+    public void testStrip() {
+        assertEquals("Getting Started Install the library with Maven. "
+                + "Use generateSlug for URLs Read the guide diagram", MarkdownScanner.strip(POST, true));
+    }
+
+    @Test
+    public void testCountWords() {
+        assertEquals(15, MarkdownScanner.countWords(POST));
+        assertEquals(0, MarkdownScanner.countWords("```\ncode only\n```"));
+    }
+
+    @Test
+    public void testPreserveWhitespace() {
+        assertEquals("Title\n\nFirst line\nsecond line", MarkdownScanner.strip("## Title ##\n\nFirst line\nsecond line", false));
+    }
+
+    @Test
+    public void testFirstParagraph() {
+        assertEquals("Install the library with Maven.", MarkdownScanner.firstParagraph(POST));
+        assertEquals("Body text continues here.",
+                MarkdownScanner.firstParagraph("Setext Title\n============\n\nBody text\ncontinues here.\n\nMore."));
+    }
+
+    @Test
+    public void testEmphasisAndEscapes() {
+        assertEquals("bold italic struck snake_case *literal*",
+                MarkdownScanner.strip("**bold** _italic_ ~~struck~~ snake_case \\*literal\\*", true));
+    }
+
+    @Test
+    public void testLinks() {
+        assertEquals("docs and ref", MarkdownScanner.strip("[docs](http://a.com/(x)) and [ref][1]", true));
+        assertEquals("see", MarkdownScanner.strip("see <https://example.com>", true));
+        assertEquals("[unclosed", MarkdownScanner.strip("[unclosed", true));
+    }
+
+    @Test
+    public void testBlocks() {
+        String md = "> quoted text\n\n1. first\n2) second\n- [x] done\n\n***\n\n| a | b |\n|---|:-:|\n| 1 | 2 |";
+        assertEquals("quoted text first second done a b 1 2", MarkdownScanner.strip(md, true));
+    }
+
+    @Test
+    public void testTildeFenceAndEntities() {
+        String md = "Fish &amp; chips&nbsp;today\n~~~~\n~~~\nhidden\n~~~~\n<b>bold</b> end";
+        assertEquals("Fish & chips today bold end", MarkdownScanner.strip(md, true));
+    }
+
+    @Test
+    public void testCodeSpans() {
+        assertEquals("use a `b` here", MarkdownScanner.strip("use ``a `b` `` here", true));
+        assertEquals("a ` b", MarkdownScanner.strip("a ` b", true));
+    }
+
+    @Test
+    public void testReferenceDefinitionAndTagsEndAtLine() {
+        assertEquals("a < b c label x d", MarkdownScanner.strip("a < b\n<em>c</em>\n[label] x\n[ref]: /url\nd", true));
+    }
+
+    @Test(timeout = 5_000)
+    public void testUnmatchedOpenersOnOneLongLine() {
+        // Each unmatched opener used to rescan to the end of the line
+        assertEquals(200_000, MarkdownScanner.strip(repeat("<", 200_000), true).length());
+        assertEquals(200_000, MarkdownScanner.strip(repeat("[", 200_000), true).length());
+        assertEquals(20_000, MarkdownScanner.countWords(repeat("[a](b ", 20_000)));
+        StringBuilder runs = new StringBuilder();
+        for (int run = 1; runs.length() < 200_000; run++) {
+            runs.append(repeat("`", run)).append(" x ");
+        }
+        MarkdownScanner.countWords(runs.toString());
+    }
+
+    @Test
+    public void testDeeplyNestedLinksAreKeptAsText() {
+        String md = repeat("[", 2_000) + "a" + repeat("]", 2_000);
+        String expected = repeat("[", 2_000 - 32) + "a" + repeat("]", 2_000 - 32);
+        assertEquals(expected, MarkdownScanner.strip(md, true));
+        assertEquals(1, ReadingTimeCalculator.countWords(md, InputFormat.MARKDOWN));
+        assertEquals("a link", MarkdownScanner.strip("[[a] link](http://example.com)", true));
+    }
+
+    private static String repeat(String line, int times) {
+        StringBuilder sb = new StringBuilder(line.length() * times);
+        for (int i = 0; i < times; i++) {
+            sb.append(line);
+        }
+        return sb.toString();
+    }
+}
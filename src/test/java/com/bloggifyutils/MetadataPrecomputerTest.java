@@ -0,0 +1,220 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Unit tests for MetadataPrecomputer class.
+ */
+public class MetadataPrecomputerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 10, 22);
+
+    @Test
+    public void testSubmitAndGet() throws InterruptedException {
+        try (MetadataPrecomputer precomputer = MetadataPrecomputer.builder().workers(2).build()) {
+            assertNull(precomputer.get("1"));
+            assertTrue(precomputer.submit(post("1", "Hello World", "Some content here")));
+            assertTrue(precomputer.awaitIdle(5, TimeUnit.SECONDS));
+
+            PostMetadata metadata = precomputer.get("1");
+            assertEquals("2024-10-22-hello-world", metadata.getSlug());
+            assertEquals("Some content here", metadata.getExcerpt());
+            assertEquals("1 min read", metadata.getReadingTimeText());
+            assertEquals(1, precomputer.getComputedCount());
+            assertEquals(0, precomputer.getPendingCount());
+        }
+    }
+
+    @Test
+    public void testCoalescesAndRejects() throws InterruptedException {
+        Gate gate = new Gate();
+        try (MetadataPrecomputer precomputer = MetadataPrecomputer.builder()
+                .workers(1).queueCapacity(1).derive(gate).build()) {
+            precomputer.submit(post("a", "A v1", ""));
+            gate.started.await(5, TimeUnit.SECONDS);
+
+            // The worker holds "a"; one slot is left for one more post
+            assertTrue(precomputer.submit(post("a", "A v2", "")));
+            assertTrue(precomputer.submit(post("a", "A v3", "")));
+            assertFalse(precomputer.submit(post("b", "B", "")));
+            assertEquals(1, precomputer.getRejectedCount());
+
+            gate.release.countDown();
+            assertTrue(precomputer.awaitIdle(5, TimeUnit.SECONDS));
+
+            assertEquals("A v3", precomputer.get("a").getTitle());
+            assertEquals(2, precomputer.getComputedCount());
+            assertNull(precomputer.get("b"));
+        }
+    }
+
+    @Test
+    public void testWarmUp() throws InterruptedException {
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            posts.add(post(String.valueOf(i), "Post " + i, "<p>Content of post " + i + "</p>"));
+        }
+
+        MetadataStore store = MetadataStore.inMemory();
+        try (MetadataPrecomputer precomputer = MetadataPrecomputer.builder()
+                .workers(3).queueCapacity(4).store(store).build()) {
+            assertEquals(50, precomputer.warmUp(posts));
+            assertEquals(50, precomputer.getComputedCount());
+            assertEquals(0, precomputer.getRejectedCount());
+            assertSame(store, precomputer.getStore());
+            assertEquals("Content of post 42", store.get("42").getExcerpt());
+        }
+    }
+
+    @Test
+    public void testFailedDerivation() throws InterruptedException {
+        try (MetadataPrecomputer precomputer = MetadataPrecomputer.builder().workers(1).derive(post -> {
+            if (post.getId().equals("bad")) {
+                throw new IllegalStateException("broken post");
+            }
+            return PostMetadata.of(post);
+        }).build()) {
+            precomputer.submit(post("bad", "Bad", ""));
+            precomputer.submit(post("good", "Good", ""));
+            assertTrue(precomputer.awaitIdle(5, TimeUnit.SECONDS));
+
+            assertEquals(1, precomputer.getFailedCount());
+            assertNull(precomputer.get("bad"));
+            assertNotNull(precomputer.get("good"));
+        }
+    }
+
+    @Test
+    public void testErrorInDerivation() throws InterruptedException {
+        try (MetadataPrecomputer precomputer = MetadataPrecomputer.builder().workers(1).derive(post -> {
+            if (post.getId().equals("bad")) {
+                throw new StackOverflowError("deeply nested post");
+            }
+            return PostMetadata.of(post);
+        }).build()) {
+            precomputer.submit(post("bad", "Bad", ""));
+            assertTrue(precomputer.awaitIdle(5, TimeUnit.SECONDS));
+            assertEquals(0, precomputer.getPendingCount());
+
+            // The only worker was replaced
+            precomputer.submit(post("good", "Good", ""));
+            assertTrue(precomputer.awaitIdle(5, TimeUnit.SECONDS));
+            assertEquals(1, precomputer.getFailedCount());
+            assertNotNull(precomputer.get("good"));
+        }
+    }
+
+    @Test
+    public void testConcurrentSubmitters() throws Exception {
+        try (MetadataPrecomputer precomputer = MetadataPrecomputer.builder().workers(2).build()) {
+            StressTester.run(StressTester.THREADS, thread -> {
+                for (int i = 0; i < 100; i++) {
+                    precomputer.submit(post(String.valueOf(i), "Post " + i, "Version " + thread));
+                }
+            });
+            precomputer.submit(post("0", "Post 0", "Final"));
+            assertTrue(precomputer.awaitIdle(10, TimeUnit.SECONDS));
+
+            assertEquals("Final", precomputer.get("0").getExcerpt());
+            for (int i = 0; i < 100; i++) {
+                assertEquals("Post " + i, precomputer.get(String.valueOf(i)).getTitle());
+            }
+            assertEquals(0, precomputer.getRejectedCount());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSubmitAfterClose() {
+        MetadataPrecomputer precomputer = MetadataPrecomputer.builder().workers(1).build();
+        precomputer.close();
+        precomputer.submit(post("1", "Title", ""));
+    }
+
+    @Test
+    public void testCloseDuringWarmUpWaitingForSlot() throws InterruptedException {
+        // The worker holds "0", "1" takes the only slot and "2" waits for one
+        assertCloseEndsWarmUp(1, 3, 2);
+    }
+
+    @Test
+    public void testCloseDuringWarmUpWaitingForIdle() throws InterruptedException {
+        assertCloseEndsWarmUp(10, 1, 1);
+    }
+
+    private static void assertCloseEndsWarmUp(int queueCapacity, int count, int pendingWhenBlocked)
+            throws InterruptedException {
+        Gate gate = new Gate();
+        MetadataPrecomputer precomputer = MetadataPrecomputer.builder()
+                .workers(1).queueCapacity(queueCapacity).derive(gate).build();
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            posts.add(post(String.valueOf(i), "Post " + i, ""));
+        }
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread warmUp = new Thread(() -> {
+            try {
+                precomputer.warmUp(posts);
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        warmUp.start();
+        assertTrue(gate.started.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (precomputer.getPendingCount() != pendingWhenBlocked
+                || (warmUp.getState() != Thread.State.WAITING && warmUp.getState() != Thread.State.TIMED_WAITING)) {
+            assertTrue("warmUp did not block", System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+
+        precomputer.close();
+        warmUp.join(5000);
+        assertFalse("warmUp still blocked after close", warmUp.isAlive());
+        assertTrue(String.valueOf(thrown.get()), thrown.get() instanceof IllegalStateException);
+        assertEquals(0, precomputer.getPendingCount());
+        assertTrue(precomputer.awaitIdle(1, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWorkers() {
+        MetadataPrecomputer.builder().workers(0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidQueueCapacity() {
+        MetadataPrecomputer.builder().queueCapacity(0).build();
+    }
+
+    private static Post post(String id, String title, String content) {
+        return new Post(id, title, content, DATE);
+    }
+
+    /**
+     * Derivation that holds the first post until released.
+     */
+    private static final class Gate implements Function<Post, PostMetadata> {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public PostMetadata apply(Post post) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return PostMetadata.of(post);
+        }
+    }
+}
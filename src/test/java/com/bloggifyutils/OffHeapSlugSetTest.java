@@ -0,0 +1,163 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for OffHeapSlugSet class.
+ */
+public class OffHeapSlugSetTest {
+
+    @Test
+    public void testAddAndContains() {
+        OffHeapSlugSet set = new OffHeapSlugSet();
+        assertTrue(set.add("hello-world"));
+        assertTrue(set.contains("hello-world"));
+        assertFalse(set.contains("hello"));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testAddDuplicate() {
+        OffHeapSlugSet set = new OffHeapSlugSet();
+        assertTrue(set.add("my-post"));
+        assertFalse(set.add("my-post"));
+        assertFalse(set.add(new StringBuilder("my-post")));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testContainsWithCharSequence() {
+        OffHeapSlugSet set = new OffHeapSlugSet();
+        set.add("my-post-1");
+        assertTrue(set.contains(new StringBuilder("my-post-").append(1)));
+    }
+
+    @Test
+    public void testContainsNonAscii() {
+        OffHeapSlugSet set = new OffHeapSlugSet();
+        set.add("cafe");
+        assertFalse(set.contains("café"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNonAscii() {
+        new OffHeapSlugSet().add("café");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new OffHeapSlugSet(0);
+    }
+
+    @Test
+    public void testCapacityAboveMaximumIsRejected() {
+        // The table size in bytes used to overflow to a negative capacity
+        for (int expected : new int[] {OffHeapSlugSet.MAX_SLUGS + 1, Integer.MAX_VALUE}) {
+            try {
+                new OffHeapSlugSet(expected);
+                fail("Expected IllegalArgumentException for " + expected);
+            } catch (IllegalArgumentException e) {
+                assertEquals("Expected slugs must be at most " + OffHeapSlugSet.MAX_SLUGS, e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testGrowsBeyondInitialCapacity() {
+        OffHeapSlugSet set = new OffHeapSlugSet(4);
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(set.add("post-" + i));
+        }
+        assertEquals(10000, set.size());
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(set.contains("post-" + i));
+        }
+        assertFalse(set.contains("post-10000"));
+    }
+
+    @Test
+    public void testGenerateUniqueSlugReservesSlug() {
+        OffHeapSlugSet set = new OffHeapSlugSet();
+        set.add("my-post");
+        set.add("my-post-1");
+
+        assertEquals("my-post-2", SlugGenerator.generateUniqueSlug("My Post", set));
+        assertEquals("my-post-3", SlugGenerator.generateUniqueSlug("My Post", set));
+        assertTrue(set.contains("my-post-3"));
+    }
+
+    @Test
+    public void testConcurrentAddsReserveEachSlugOnce() throws Exception {
+        OffHeapSlugSet set = new OffHeapSlugSet(4);
+        int slugs = 2000;
+        AtomicIntegerArray winners = new AtomicIntegerArray(slugs);
+
+        StressTester.run(StressTester.THREADS, thread -> {
+            for (int i = 0; i < slugs; i++) {
+                // Threads walk the slugs from different offsets while the table grows
+                int slug = (i + thread * 131) % slugs;
+                if (set.add("slug-" + slug)) {
+                    winners.incrementAndGet(slug);
+                }
+            }
+        });
+
+        assertEquals(slugs, set.size());
+        for (int i = 0; i < slugs; i++) {
+            assertEquals("slug-" + i, 1, winners.get(i));
+            assertTrue(set.contains("slug-" + i));
+        }
+    }
+
+    @Test
+    public void testLookupsWhileTheTableGrows() throws Exception {
+        OffHeapSlugSet set = new OffHeapSlugSet(4);
+        int slugs = 20_000;
+        AtomicInteger added = new AtomicInteger();
+
+        StressTester.run(StressTester.THREADS, thread -> {
+            if (thread == 0) {
+                for (int i = 0; i < slugs; i++) {
+                    set.add("slug-" + i);
+                    added.set(i + 1);
+                }
+                return;
+            }
+            // Readers race the optimistic lookup against adds that grow the table and arena
+            while (added.get() < slugs) {
+                int known = added.get();
+                if (known > 0) {
+                    String slug = "slug-" + (known - 1);
+                    assertTrue(slug, set.contains(slug));
+                }
+                assertFalse(set.contains("missing-" + known));
+            }
+        });
+
+        assertEquals(slugs, set.size());
+    }
+
+    @Test
+    public void testConcurrentUniqueSlugsAreDistinct() throws Exception {
+        OffHeapSlugSet set = new OffHeapSlugSet(16);
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+
+        StressTester.run(StressTester.THREADS, thread -> {
+            for (int i = 0; i < 200; i++) {
+                String slug = SlugGenerator.generateUniqueSlug("Same Title", set);
+                assertTrue(slug, generated.add(slug));
+            }
+        });
+
+        assertEquals(StressTester.THREADS * 200, generated.size());
+        assertEquals(generated.size(), set.size());
+    }
+}
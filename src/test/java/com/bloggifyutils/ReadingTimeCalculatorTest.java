@@ -89,4 +89,25 @@ public class ReadingTimeCalculatorTest {
         }
         return sb.toString().trim();
     }
+
+    @Test
+    public void testMarkdownWordCount() {
+        String markdown = "# Title\n\nSee [the guide](https://example.com/a/long/url) now.\n\n```\nint x = 1;\n```\n";
+        assertEquals(5, ReadingTimeCalculator.countWords(markdown, InputFormat.MARKDOWN));
+        assertEquals(1, ReadingTimeCalculator.calculateReadingTime(markdown, InputFormat.MARKDOWN));
+        assertEquals("1 min read", ReadingTimeCalculator.getReadingTimeText(markdown, InputFormat.MARKDOWN));
+        assertEquals(0, ReadingTimeCalculator.countWords("  ", InputFormat.MARKDOWN));
+    }
+
+    @Test
+    public void testMarkdownSkipsCodeInReadingTime() {
+        String markdown = generateContent(200) + "\n\n```\n" + generateContent(400) + "\n```";
+        assertEquals(4, ReadingTimeCalculator.calculateReadingTime(markdown, InputFormat.HTML));
+        assertEquals(1, ReadingTimeCalculator.calculateReadingTime(markdown, 200, InputFormat.MARKDOWN));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullInputFormat() {
+        ReadingTimeCalculator.countWords("text", null);
+    }
 }
@@ -0,0 +1,188 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for SitemapWriter class.
+ */
+public class SitemapWriterTest {
+
+    private final List<ByteArrayOutputStream> parts = new ArrayList<>();
+
+    private WritableByteChannel open(int part) {
+        assertEquals(parts.size() + 1, part);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parts.add(out);
+        return Channels.newChannel(out);
+    }
+
+    private static List<Post> posts(int count) {
+        List<Post> posts = new ArrayList<>();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < count; i++) {
+            posts.add(new Post("p" + i, "Post Number " + i, "<p>Body " + i + "</p>", date.plusDays(i)));
+        }
+        return posts;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testSingleFile() throws IOException {
+        SitemapWriter writer = SitemapWriter.builder("https://blog.example.com").build();
+        assertEquals(1, writer.write(posts(3).iterator(), this::open));
+
+        String xml = new String(parts.get(0).toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(xml.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
+        assertTrue(xml.contains("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">"));
+        assertTrue(xml.contains("<loc>https://blog.example.com/2024-01-01-post-number-0</loc>"
+                + "<lastmod>2024-01-01</lastmod>"));
+        assertTrue(xml.endsWith("</urlset>\n"));
+    }
+
+    @Test
+    public void testKeepsInputOrderAcrossBatches() throws IOException {
+        SitemapWriter writer = SitemapWriter.builder("https://blog.example.com/").batchSize(7).build();
+        writer.write(posts(100).iterator(), this::open);
+
+        String xml = new String(parts.get(0).toByteArray(), StandardCharsets.UTF_8);
+        int previous = -1;
+        for (int i = 0; i < 100; i++) {
+            int position = xml.indexOf("post-number-" + i + "</loc>");
+            assertTrue("post " + i, position > previous);
+            previous = position;
+        }
+    }
+
+    @Test
+    public void testSplitsFiles() throws IOException {
+        SitemapWriter writer = SitemapWriter.builder("https://blog.example.com/").maxUrlsPerFile(10).build();
+        assertEquals(3, writer.write(posts(25).iterator(), this::open));
+
+        int total = 0;
+        for (ByteArrayOutputStream part : parts) {
+            String xml = new String(part.toByteArray(), StandardCharsets.UTF_8);
+            assertTrue(xml.endsWith("</urlset>\n"));
+            total += xml.split("<url>", -1).length - 1;
+        }
+        assertEquals(25, total);
+    }
+
+    @Test
+    public void testGzip() throws IOException {
+        SitemapWriter writer = SitemapWriter.builder("https://blog.example.com/").gzip(true).build();
+        writer.write(posts(5).iterator(), this::open);
+
+        String xml = gunzip(parts.get(0).toByteArray());
+        assertTrue(xml.contains("2024-01-05-post-number-4"));
+    }
+
+    @Test
+    public void testNoPosts() throws IOException {
+        SitemapWriter writer = SitemapWriter.builder("https://blog.example.com/").build();
+        assertEquals(0, writer.write(new ArrayList<Post>().iterator(), this::open));
+        assertTrue(parts.isEmpty());
+    }
+
+    @Test
+    public void testEscapesBaseUrl() throws IOException {
+        SitemapWriter writer = SitemapWriter.builder("https://example.com/?a=1&b=2/").build();
+        writer.write(posts(1).iterator(), this::open);
+
+        String xml = new String(parts.get(0).toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(xml.contains("<loc>https://example.com/?a=1&amp;b=2/2024-01-01-post-number-0</loc>"));
+    }
+
+    @Test
+    public void testWriteIndexLeavesChannelOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        SitemapWriter.writeIndex(channel, Arrays.asList("https://a.com/s-1.xml", "https://a.com/s-2.xml"), false);
+
+        assertTrue(channel.isOpen());
+        String xml = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(xml.contains("<sitemapindex"));
+        assertTrue(xml.contains("<sitemap><loc>https://a.com/s-2.xml</loc></sitemap>"));
+    }
+
+    @Test
+    public void testFailureLeavesFileUnfinished() throws IOException {
+        List<Post> posts = posts(1);
+        // Dated slugs only support four-digit years
+        posts.add(new Post("bad", "Far Future", "", LocalDate.of(10000, 1, 1)));
+        SitemapWriter writer = SitemapWriter.builder("https://blog.example.com/").batchSize(1).build();
+        try {
+            writer.write(posts.iterator(), this::open);
+            fail("Expected the invalid post to fail");
+        } catch (IllegalArgumentException e) {
+            String xml = new String(parts.get(0).toByteArray(), StandardCharsets.UTF_8);
+            assertTrue(xml.contains("post-number-0"));
+            assertFalse(xml.contains("</urlset>"));
+        }
+    }
+
+    @Test
+    public void testKeepsFirstException() {
+        SitemapWriter writer = SitemapWriter.builder("https://blog.example.com/").build();
+        try {
+            // Enough posts to fill the output buffer, so the write fails before the file is closed
+            writer.write(posts(2000).iterator(), part -> new WritableByteChannel() {
+                private boolean failed;
+
+                @Override
+                public int write(ByteBuffer src) throws IOException {
+                    if (failed) {
+                        throw new IOException("write after failure");
+                    }
+                    failed = true;
+                    throw new IOException("disk full");
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    throw new IOException("close failed");
+                }
+            });
+            fail("Expected the write to fail");
+        } catch (IOException e) {
+            assertEquals("disk full", e.getMessage());
+            assertTrue(e.getSuppressed().length > 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyUrlsPerFile() {
+        SitemapWriter.builder("https://blog.example.com/").maxUrlsPerFile(50_001).build();
+    }
+}
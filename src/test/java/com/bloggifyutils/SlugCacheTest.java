@@ -0,0 +1,87 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for SlugCache class.
+ */
+public class SlugCacheTest {
+
+    @Test
+    public void testToSlugMatchesGenerator() {
+        SlugCache cache = new SlugCache(100);
+        assertEquals("cafe-au-lait", cache.toSlug("Café au Lait"));
+        assertEquals(SlugGenerator.generateSlug("Hello, World!"), cache.toSlug("Hello, World!"));
+        assertEquals("", cache.toSlug(null));
+    }
+
+    @Test
+    public void testToTitleMatchesGenerator() {
+        SlugCache cache = new SlugCache(100);
+        assertEquals("Hello World", cache.toTitle("hello-world"));
+        assertEquals("", cache.toTitle(null));
+    }
+
+    @Test
+    public void testRepeatedLookupsReturnSameInstance() {
+        SlugCache cache = new SlugCache(100);
+        String first = cache.toSlug("Java Tips");
+        assertSame(first, cache.toSlug("Java Tips"));
+        assertSame(cache.toTitle("java-tips"), cache.toTitle("java-tips"));
+    }
+
+    @Test
+    public void testInterning() {
+        SlugCache cache = new SlugCache(100, true);
+        assertSame("java-tips", cache.toSlug("Java Tips"));
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        SlugCache cache = new SlugCache(10);
+        for (int i = 0; i < 1000; i++) {
+            cache.toSlug("Tag " + i);
+            cache.toTitle("tag-" + i);
+        }
+        assertTrue(cache.size() <= 20);
+        assertEquals("tag-999", cache.toSlug("Tag 999"));
+    }
+
+    @Test
+    public void testClear() {
+        SlugCache cache = new SlugCache(10);
+        cache.toSlug("Java Tips");
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new SlugCache(1);
+    }
+
+    @Test
+    public void testConcurrentLookupsAcrossRotations() throws Exception {
+        int maxEntries = 64;
+        SlugCache cache = new SlugCache(maxEntries);
+        String[] titles = new String[500];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = "Title Number " + i;
+        }
+
+        StressTester.run(StressTester.THREADS, thread -> {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < titles.length; i++) {
+                    String title = titles[(i * 7 + thread) % titles.length];
+                    String slug = cache.toSlug(title);
+                    assertEquals(SlugGenerator.generateSlug(title), slug);
+                    assertEquals(SlugGenerator.slugToTitle(slug), cache.toTitle(slug));
+                }
+            }
+        });
+
+        // Racing writers may overfill a generation by at most one entry each
+        assertTrue(cache.size() <= 2 * (maxEntries + 2 * StressTester.THREADS));
+    }
+}
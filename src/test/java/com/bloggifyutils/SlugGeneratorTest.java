@@ -1,6 +1,11 @@
 package com.bloggifyutils;
 
 import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
 import static org.junit.Assert.*;
 
 /**
@@ -29,6 +34,19 @@ public class SlugGeneratorTest {
         assertEquals("resume", SlugGenerator.generateSlug("Résumé"));
     }
 
+    @Test
+    public void testSlugIgnoresDefaultLocale() {
+        Locale original = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            // Turkish lowercases I to a dotless ı, which has no ASCII base letter
+            assertEquals("istanbul-guide", SlugGenerator.generateSlug("ISTANBUL Guide"));
+            assertEquals("cafe-in-istanbul", SlugGenerator.generateSlug("Café IN ISTANBUL"));
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
     @Test
     public void testSlugWithMultipleSpaces() {
         assertEquals("hello-world", SlugGenerator.generateSlug("Hello    World"));
@@ -75,12 +93,49 @@ public class SlugGeneratorTest {
         assertEquals("my-post", slug);
     }
 
+    @Test
+    public void testGenerateUniqueSlugsDeduplicatesWithinBatch() {
+        List<String> titles = Arrays.asList("My Post", "Other Post", "My Post!", "my post");
+        List<String> slugs = SlugGenerator.generateUniqueSlugs(titles, null);
+        assertEquals(Arrays.asList("my-post", "other-post", "my-post-1", "my-post-2"), slugs);
+    }
+
+    @Test
+    public void testGenerateUniqueSlugsAgainstIndex() {
+        OffHeapSlugSet existing = new OffHeapSlugSet();
+        existing.add("my-post");
+        existing.add("my-post-2");
+
+        List<String> slugs = SlugGenerator.generateUniqueSlugs(
+                Arrays.asList("My Post", "My Post", "My Post"), existing);
+
+        assertEquals(Arrays.asList("my-post-1", "my-post-3", "my-post-4"), slugs);
+        assertEquals(5, existing.size());
+    }
+
+    @Test
+    public void testGenerateUniqueSlugsWithEmptyList() {
+        assertTrue(SlugGenerator.generateUniqueSlugs(Arrays.<String>asList(), null).isEmpty());
+        assertTrue(SlugGenerator.generateUniqueSlugs(null, null).isEmpty());
+    }
+
     @Test
     public void testGenerateDatedSlug() {
         String slug = SlugGenerator.generateDatedSlug("My Post", 2024, 10, 22);
         assertEquals("2024-10-22-my-post", slug);
     }
 
+    @Test
+    public void testGenerateDatedSlugFromLocalDate() {
+        String slug = SlugGenerator.generateDatedSlug("My Post", java.time.LocalDate.of(2024, 1, 5));
+        assertEquals("2024-01-05-my-post", slug);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGenerateDatedSlugRejectsInvalidDate() {
+        SlugGenerator.generateDatedSlug("My Post", 2024, 4, 31);
+    }
+
     @Test
     public void testIsValidSlug() {
         assertTrue(SlugGenerator.isValidSlug("hello-world"));
@@ -103,6 +158,14 @@ public class SlugGeneratorTest {
         assertEquals("Test 123", SlugGenerator.slugToTitle("test-123"));
     }
 
+    @Test
+    public void testSlugToTitleWithStraySeparators() {
+        assertEquals("Hello", SlugGenerator.slugToTitle("hello-"));
+        assertEquals(" Hello", SlugGenerator.slugToTitle("-hello"));
+        assertEquals("A  B", SlugGenerator.slugToTitle("a--b"));
+        assertEquals("", SlugGenerator.slugToTitle("---"));
+    }
+
     @Test
     public void testSlugToTitleWithEmptyString() {
         assertEquals("", SlugGenerator.slugToTitle(""));
@@ -120,4 +183,13 @@ public class SlugGeneratorTest {
         assertEquals("10-tips-for-2024", SlugGenerator.generateSlug("10 Tips for 2024"));
         assertEquals("version-2-0-released", SlugGenerator.generateSlug("Version 2.0 Released"));
     }
+
+    @Test
+    public void testSlugWithNonLatinCharacters() {
+        // Marks left by decomposition are dropped; other non-ASCII characters separate words
+        assertEquals("creme-brulee", SlugGenerator.generateSlug("CRÈME  brûlée"));
+        assertEquals("tokyo-2024", SlugGenerator.generateSlug("東京 Tokyo — 2024"));
+        assertEquals("a-b", SlugGenerator.generateSlug("a\uD835\uDC00b"));
+        assertEquals("", SlugGenerator.generateSlug("— ★ —"));
+    }
 }
@@ -0,0 +1,74 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for SlugValidator class.
+ */
+public class SlugValidatorTest {
+
+    private static final String[] SAMPLES = {
+        "hello-world", "test-123", "mypost", "a", "1-2-3",
+        "Hello-World", "hello_world", "hello world", "-hello", "hello-",
+        "hello--world", "-", "", "café", "ab\u0000"
+    };
+
+    @Test
+    public void testMatchesRegex() {
+        for (String sample : SAMPLES) {
+            boolean expected = sample.matches("^[a-z0-9]+(-[a-z0-9]+)*$");
+            assertEquals(sample, expected, SlugValidator.isValid(sample));
+            assertEquals(sample, expected, SlugValidator.isValid(new StringBuilder(sample)));
+        }
+    }
+
+    @Test
+    public void testUtf8Bytes() {
+        for (String sample : SAMPLES) {
+            boolean expected = sample.matches("^[a-z0-9]+(-[a-z0-9]+)*$");
+            byte[] request = ("GET /blog/" + sample + " HTTP/1.1").getBytes(StandardCharsets.UTF_8);
+            int length = sample.getBytes(StandardCharsets.UTF_8).length;
+            assertEquals(sample, expected, SlugValidator.isValid(request, 10, length));
+        }
+    }
+
+    @Test
+    public void testByteBufferKeepsPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap("/my-post".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(1);
+        assertTrue(SlugValidator.isValid(buffer));
+        assertEquals(1, buffer.position());
+
+        buffer.position(0);
+        assertFalse(SlugValidator.isValid(buffer));
+    }
+
+    @Test
+    public void testNullAndEmpty() {
+        assertFalse(SlugValidator.isValid((CharSequence) null));
+        assertFalse(SlugValidator.isValid(null, 0, 0));
+        assertFalse(SlugValidator.isValid(new byte[4], 0, 0));
+        assertFalse(SlugValidator.isValid(ByteBuffer.allocate(0)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testByteRangeOutOfBounds() {
+        SlugValidator.isValid(new byte[4], 2, 3);
+    }
+
+    @Test
+    public void testFindInvalid() {
+        BitSet invalid = SlugValidator.findInvalid(Arrays.asList("ok", "Not-Ok", "also-ok", "bad-"));
+        assertEquals(2, invalid.cardinality());
+        assertTrue(invalid.get(1));
+        assertTrue(invalid.get(3));
+        assertTrue(SlugValidator.findInvalid(null).isEmpty());
+    }
+}
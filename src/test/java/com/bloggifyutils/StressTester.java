@@ -0,0 +1,56 @@
+package com.bloggifyutils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a task on many threads that all start at the same moment, to provoke races
+ * in the stateful components. The first failure of any thread is rethrown.
+ */
+final class StressTester {
+
+    static final int THREADS = 16;
+
+    /**
+     * A task run by each thread, given the thread's index.
+     */
+    interface Task {
+        void run(int thread) throws Exception;
+    }
+
+    private StressTester() {
+    }
+
+    static void run(int threads, Task task) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>(threads);
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }, "stress-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof Exception) {
+            throw (Exception) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+    }
+}
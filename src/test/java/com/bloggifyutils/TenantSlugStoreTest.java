@@ -0,0 +1,64 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for TenantSlugStore class.
+ */
+public class TenantSlugStoreTest {
+
+    @Test
+    public void testTenantsAreIsolated() {
+        TenantSlugStore store = new TenantSlugStore();
+        assertEquals("my-post", store.generateUniqueSlug("blog-a", "My Post"));
+        assertEquals("my-post", store.generateUniqueSlug("blog-b", "My Post"));
+        assertEquals("my-post-1", store.generateUniqueSlug("blog-a", "My Post"));
+        assertEquals(2, store.tenantCount());
+    }
+
+    @Test
+    public void testForTenantReturnsSameSet() {
+        TenantSlugStore store = new TenantSlugStore();
+        assertSame(store.forTenant("blog-a"), store.forTenant("blog-a"));
+    }
+
+    @Test
+    public void testRemoveTenant() {
+        TenantSlugStore store = new TenantSlugStore();
+        store.generateUniqueSlug("blog-a", "My Post");
+        assertTrue(store.removeTenant("blog-a"));
+        assertFalse(store.removeTenant("blog-a"));
+        assertEquals("my-post", store.generateUniqueSlug("blog-a", "My Post"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullTenant() {
+        new TenantSlugStore().forTenant(null);
+    }
+
+    @Test
+    public void testConcurrentTenantsStaySeparate() throws Exception {
+        TenantSlugStore store = new TenantSlugStore(8);
+        int tenants = 4;
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+
+        StressTester.run(StressTester.THREADS, thread -> {
+            String tenant = "tenant-" + (thread % tenants);
+            for (int i = 0; i < 200; i++) {
+                String slug = store.generateUniqueSlug(tenant, "Post");
+                assertTrue(slug, generated.add(tenant + "/" + slug));
+            }
+        });
+
+        assertEquals(tenants, store.tenantCount());
+        int perTenant = StressTester.THREADS / tenants * 200;
+        for (int t = 0; t < tenants; t++) {
+            assertEquals(perTenant, store.forTenant("tenant-" + t).size());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for TermCounter class.
+ */
+public class TermCounterTest {
+
+    private static List<ContentAnalysis.Term> top(String text, int n, TermCounter.StopWords stopWords) {
+        TermCounter counter = new TermCounter(text, stopWords);
+        counter.addTerms(0, text.length());
+        return counter.top(n, 10);
+    }
+
+    @Test
+    public void testCountsCaseInsensitively() {
+        List<ContentAnalysis.Term> terms = top("Java java JAVA blog Blog post", 2, TermCounter.StopWords.NONE);
+        assertEquals(2, terms.size());
+        assertEquals("java", terms.get(0).getTerm());
+        assertEquals(3, terms.get(0).getCount());
+        assertEquals(0.3, terms.get(0).getDensity(), 1e-9);
+        assertEquals("blog", terms.get(1).getTerm());
+        assertEquals(2, terms.get(1).getCount());
+    }
+
+    @Test
+    public void testTiesGoToFirstSeen() {
+        List<ContentAnalysis.Term> terms = top("zeta alpha beta", 3, TermCounter.StopWords.NONE);
+        assertEquals("zeta", terms.get(0).getTerm());
+        assertEquals("alpha", terms.get(1).getTerm());
+        assertEquals("beta", terms.get(2).getTerm());
+    }
+
+    @Test
+    public void testSplitsPunctuationAndEntities() {
+        List<ContentAnalysis.Term> terms = top("fish&amp;chips, don't (fish)! &nbsp;", 10, TermCounter.StopWords.NONE);
+        assertEquals("fish", terms.get(0).getTerm());
+        assertEquals(2, terms.get(0).getCount());
+        assertEquals("chips", terms.get(1).getTerm());
+        assertEquals("don't", terms.get(2).getTerm());
+        assertEquals(3, terms.size());
+    }
+
+    @Test
+    public void testStopWords() {
+        TermCounter.StopWords stopWords = new TermCounter.StopWords(Arrays.asList("the", "A"));
+        List<ContentAnalysis.Term> terms = top("The cat and a dog; the end", 10, stopWords);
+        for (ContentAnalysis.Term term : terms) {
+            assertNotEquals("the", term.getTerm());
+            assertNotEquals("a", term.getTerm());
+        }
+        assertEquals(4, terms.size());
+    }
+
+    @Test
+    public void testMatchesHashMapCountsAcrossRehash() {
+        StringBuilder text = new StringBuilder();
+        Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            String term = "t" + (i * 7919 % 1237);
+            text.append(term).append(' ');
+            expected.merge(term, 1, Integer::sum);
+        }
+
+        TermCounter counter = new TermCounter(text.toString(), TermCounter.StopWords.NONE);
+        counter.addTerms(0, text.length());
+        assertEquals(expected.size(), counter.size());
+
+        List<ContentAnalysis.Term> terms = counter.top(expected.size(), 5000);
+        assertEquals(expected.size(), terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            ContentAnalysis.Term term = terms.get(i);
+            assertEquals(term.getTerm(), expected.get(term.getTerm()).intValue(), term.getCount());
+            if (i > 0) {
+                assertTrue(terms.get(i - 1).getCount() >= term.getCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WordCounter class.
+ */
+public class WordCounterTest {
+
+    @Test
+    public void testMatchesRegexCount() {
+        String[] samples = {
+            "This is a simple test",
+            "<p>This is <strong>HTML</strong> content</p>",
+            "a<br>b",
+            "x < y and y > z",
+            "<a href=\"x\">link</a>\n\ttext\r\n",
+            "unclosed <tag and more words",
+            "a>b c<d"
+        };
+        for (String sample : samples) {
+            assertEquals(sample, regexCount(sample), WordCounter.countWords(sample));
+        }
+    }
+
+    @Test
+    public void testEmptyTagsHaveNoWords() {
+        assertEquals(0, WordCounter.countWords("<p></p>"));
+    }
+
+    @Test
+    public void testParallelCountMatchesSequential() {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (sb.length() < WordCounter.PARALLEL_THRESHOLD * 3) {
+            switch (i % 5) {
+                case 0: sb.append("<p class=\"para long attribute value\">"); break;
+                case 1: sb.append("word").append(i).append(' '); break;
+                case 2: sb.append("a>b "); break;
+                case 3: sb.append("</p>\n"); break;
+                default: sb.append("joined").append(i); break;
+            }
+            i++;
+        }
+        String text = sb.toString();
+
+        HtmlScanner scanner = new HtmlScanner();
+        scanner.scan(text);
+        assertEquals(regexCount(text), scanner.words);
+        assertEquals(scanner.words, countInParallel(text));
+        assertEquals(scanner.words, WordCounter.countWords(text));
+    }
+
+    @Test
+    public void testParallelCountOfPlainText() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < WordCounter.PARALLEL_THRESHOLD * 2) {
+            sb.append("lorem ipsum dolor sit amet ");
+        }
+        String text = sb.toString();
+        assertEquals(regexCount(text), countInParallel(text));
+    }
+
+    private static int countInParallel(String text) {
+        // Use a dedicated pool so the split path runs even on single-core machines
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            return pool.invoke(new WordCounter.CountTask(text, 0, text.length())).words;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static int regexCount(String content) {
+        String clean = content.replaceAll("<[^>]*>", " ").trim();
+        return clean.isEmpty() ? 0 : clean.split("\\s+").length;
+    }
+}
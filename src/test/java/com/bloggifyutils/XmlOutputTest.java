@@ -0,0 +1,36 @@
+package com.bloggifyutils;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+/**
+ * Unit tests for XmlOutput class.
+ */
+public class XmlOutputTest {
+
+    @Test
+    public void testWrittenCountsUtf8Bytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        XmlOutput out = new XmlOutput(Channels.newChannel(bytes), false, true);
+        out.raw("<loc>https://例え.jp/café/").text("ß & 😀").raw("</loc>\n");
+        long written = out.written();
+        out.close();
+
+        assertEquals(bytes.size(), written);
+        assertTrue(written > "<loc>https://例え.jp/café/ß &amp; 😀</loc>\n".length());
+    }
+
+    @Test
+    public void testUtf8Length() {
+        assertEquals(3, XmlOutput.utf8Length("abc", 0, 3));
+        assertEquals(2, XmlOutput.utf8Length("é", 0, 1));
+        assertEquals(3, XmlOutput.utf8Length("€", 0, 1));
+        assertEquals(4, XmlOutput.utf8Length("😀", 0, 2));
+        // A lone surrogate is written as '?'
+        assertEquals(1, XmlOutput.utf8Length("\uD83D", 0, 1));
+    }
+}